@@ -55,6 +55,7 @@ public class RatConfig {
 	public static int ratRFTransferExtreme = 100000;
 	public static int ratChargeExtreme = 500;
 	public static int upgradeRegenRate = 30;
+	public static int ratCraftingBatchSize = 1;
 	public static double warriorHealthUpgrade = 40.0D;
 	public static double warriorDamageUpgrade = 5.0D;
 	public static double warriorArmorUpgrade = 10.0D;
@@ -164,6 +165,7 @@ public class RatConfig {
 
 			ratsChargeHeldItems = ConfigHolder.SERVER.ratsChargeHeldItems.get();
 			upgradeRegenRate = ConfigHolder.SERVER.upgradeRegenRate.get();
+			ratCraftingBatchSize = ConfigHolder.SERVER.ratCraftingBatchSize.get();
 			ratRFTransferBasic = ConfigHolder.SERVER.ratRFTransferBasic.get();
 			ratChargeBasic = ConfigHolder.SERVER.ratChargeBasic.get();
 			ratRFTransferAdvanced = ConfigHolder.SERVER.ratRFTransferAdvanced.get();
@@ -46,6 +46,7 @@ public class ServerConfig {
 	public final ForgeConfigSpec.IntValue ratRFTransferExtreme;
 	public final ForgeConfigSpec.IntValue ratChargeExtreme;
 	public final ForgeConfigSpec.IntValue upgradeRegenRate;
+	public final ForgeConfigSpec.IntValue ratCraftingBatchSize;
 	public final ForgeConfigSpec.DoubleValue warriorHealthUpgrade;
 	public final ForgeConfigSpec.DoubleValue warriorDamageUpgrade;
 	public final ForgeConfigSpec.DoubleValue warriorArmorUpgrade;
@@ -209,6 +210,7 @@ public class ServerConfig {
 		this.nonbelieverArmorUpgrade = buildDouble(builder, "Nonbeliever Armor Upgrade", 20.0D, 0.0D, 30.0D, "Sets a Rat's Armor to this value when they have the Nonbeliever Upgrade.");
 		this.nonbelieverDamageUpgrade = buildDouble(builder, "Nonbeliever Damage Upgrade", 40.0D, 0.0D, 2048.0D, "Sets a Rat's attack damage to this value when they have the Nonbeliever Upgrade.");
 		this.upgradeRegenRate = buildInt(builder, "Upgrade Regeneration Rate", 30, 0, Integer.MAX_VALUE, "Rats that have an upgrade that regenerates health will regen half a heart every X ticks, X being the number defined here. Set to 0 to disable health regeneration.");
+		this.ratCraftingBatchSize = buildInt(builder, "Rat Crafting Batch Size", 1, 1, 64, "How many items a rat with the crafting upgrade can craft each time it finishes crafting, as long as the rat crafting table has enough ingredients and room in its result slot.");
 		this.ratPsychicThrowsBlocks = buildBoolean(builder, "Psychic Throws Blocks", false, "If true, Rats that have the Psychic upgrade will pick up blocks and throw them towards enemies.");
 		this.carratDamagePerBite = buildDouble(builder, "Damage per Carrat Upgrade bite", 0.0D, 0.0D, Double.MAX_VALUE, "How much damage a rat should take when eaten while having the Carrat Upgrade.");
 
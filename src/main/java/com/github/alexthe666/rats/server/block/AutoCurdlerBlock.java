@@ -2,8 +2,6 @@ package com.github.alexthe666.rats.server.block;
 
 import com.github.alexthe666.rats.registry.RatsBlockEntityRegistry;
 import com.github.alexthe666.rats.server.block.entity.AutoCurdlerBlockEntity;
-import com.github.alexthe666.rats.server.message.RatsNetworkHandler;
-import com.github.alexthe666.rats.server.message.UpdateCurdlerFluidPacket;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -36,7 +34,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidUtil;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandlerItem;
-import net.minecraftforge.network.PacketDistributor;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
@@ -100,7 +97,7 @@ public class AutoCurdlerBlock extends BaseEntityBlock {
 									player.getInventory().add(new ItemStack(Items.BUCKET));
 								}
 							}
-							RatsNetworkHandler.CHANNEL.send(PacketDistributor.ALL.noArg(), new UpdateCurdlerFluidPacket(pos.asLong(), te.getTank().getFluid()));
+							te.syncFluid();
 						}
 					}
 				}
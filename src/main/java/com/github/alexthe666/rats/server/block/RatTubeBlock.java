@@ -1,16 +1,20 @@
 package com.github.alexthe666.rats.server.block;
 
-import com.github.alexthe666.rats.registry.RatsBlockEntityRegistry;
 import com.github.alexthe666.rats.registry.RatsItemRegistry;
 import com.github.alexthe666.rats.server.block.entity.RatTubeBlockEntity;
+import com.github.alexthe666.rats.server.entity.rat.Rat;
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
 import com.github.alexthe666.rats.server.items.RatTubeItem;
+import com.github.alexthe666.rats.server.world.RatTubeNetwork;
+import com.google.common.collect.Maps;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.util.Mth;
 import net.minecraft.world.Containers;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.player.Player;
@@ -25,16 +29,15 @@ import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
 import net.minecraft.world.level.pathfinder.BlockPathTypes;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
-import net.minecraft.world.phys.shapes.BooleanOp;
+import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
@@ -62,19 +65,27 @@ public class RatTubeBlock extends BaseEntityBlock {
 	public static final BooleanProperty OPEN_DOWN = BooleanProperty.create("open_down");
 	public static final BooleanProperty[] ALL_OPEN_PROPS = new BooleanProperty[]{OPEN_DOWN, OPEN_UP, OPEN_NORTH, OPEN_SOUTH, OPEN_WEST, OPEN_EAST};
 
+	//rats squeezing through an opening get slowed down while they're inside this area
+	private static final AABB OPENING_AABB = new AABB(0.1D, -0.2D, 0.1D, 0.9D, 0.6D, 0.9D);
+
 	private static final VoxelShape UP_AABB = Block.box(3, 12, 3, 13, 13, 13);
 	private static final VoxelShape UP_AABB_CONNECT_1 = Block.box(3, 13, 3, 13, 16, 4);
 	private static final VoxelShape UP_AABB_CONNECT_2 = Block.box(3, 13, 3, 4, 16, 13);
 	private static final VoxelShape UP_AABB_CONNECT_3 = Block.box(12, 13, 3, 13, 16, 13);
 	private static final VoxelShape UP_AABB_CONNECT_4 = Block.box(3, 13, 12, 13, 16, 13);
 
-	//AABB maps to stop mem leaks
-	private static final Map<Direction, VoxelShape> AABB_MAP = new HashMap<>();
-	private static final Map<Direction, VoxelShape> AABB_CONNECTOR_1_MAP = new HashMap<>();
-	private static final Map<Direction, VoxelShape> AABB_CONNECTOR_2_MAP = new HashMap<>();
-	private static final Map<Direction, VoxelShape> AABB_CONNECTOR_3_MAP = new HashMap<>();
-	private static final Map<Direction, VoxelShape> AABB_CONNECTOR_4_MAP = new HashMap<>();
-	private static final Map<String, VoxelShape> OVERALL_AABB_MAP = new HashMap<>();
+	private static final Map<Direction, VoxelShape> WALL_BY_DIRECTION = Util.make(Maps.newEnumMap(Direction.class), map -> {
+		for (Direction direction : Direction.values()) {
+			map.put(direction, rotateAABB(UP_AABB, direction));
+		}
+	});
+	private static final Map<Direction, VoxelShape> CONNECTOR_BY_DIRECTION = Util.make(Maps.newEnumMap(Direction.class), map -> {
+		for (Direction direction : Direction.values()) {
+			map.put(direction, Shapes.or(rotateAABB(UP_AABB_CONNECT_1, direction), rotateAABB(UP_AABB_CONNECT_2, direction), rotateAABB(UP_AABB_CONNECT_3, direction), rotateAABB(UP_AABB_CONNECT_4, direction)));
+		}
+	});
+
+	private final Map<BlockState, VoxelShape> shapeByState;
 
 	public RatTubeBlock(BlockBehaviour.Properties properties) {
 		super(properties);
@@ -92,6 +103,17 @@ public class RatTubeBlock extends BaseEntityBlock {
 				.setValue(OPEN_UP, false)
 				.setValue(OPEN_DOWN, false)
 		);
+		//a side's shape only depends on whether it's connected, open or walled off, so most states can share their shape
+		Map<Integer, VoxelShape> shapeByLayout = new HashMap<>();
+		this.shapeByState = Maps.toMap(this.getStateDefinition().getPossibleStates(), state -> shapeByLayout.computeIfAbsent(getShapeLayout(state), layout -> this.generateRatTubeState(state)));
+	}
+
+	private static int getShapeLayout(BlockState state) {
+		int layout = 0;
+		for (Direction direction : Direction.values()) {
+			layout = layout * 3 + (state.getValue(getConnectProperty(direction)) ? 2 : state.getValue(getOpenProperty(direction)) ? 1 : 0);
+		}
+		return layout;
 	}
 
 	public static VoxelShape rotateAABB(VoxelShape aabb, Direction facing) {
@@ -110,100 +132,50 @@ public class RatTubeBlock extends BaseEntityBlock {
 		};
 	}
 
+	public static BooleanProperty getConnectProperty(Direction direction) {
+		return switch (direction) {
+			case NORTH -> NORTH;
+			case SOUTH -> SOUTH;
+			case EAST -> EAST;
+			case WEST -> WEST;
+			case DOWN -> DOWN;
+			case UP -> UP;
+		};
+	}
+
+	public static BooleanProperty getOpenProperty(Direction direction) {
+		return switch (direction) {
+			case NORTH -> OPEN_NORTH;
+			case SOUTH -> OPEN_SOUTH;
+			case EAST -> OPEN_EAST;
+			case WEST -> OPEN_WEST;
+			case DOWN -> OPEN_DOWN;
+			case UP -> OPEN_UP;
+		};
+	}
+
 	public static VoxelShape makeCuboidShapeNoResize(double x1, double y1, double z1, double x2, double y2, double z2) {
 		return Shapes.create(x1, y1, z1, x2, y2, z2);
 	}
 
 	@Override
 	public VoxelShape getShape(BlockState state, BlockGetter level, BlockPos pos, CollisionContext context) {
-		if (state.getBlock() instanceof RatTubeBlock) {
-			String key = "up:" + state.getValue(UP) + " down: " + state.getValue(DOWN) + " north: " + state.getValue(NORTH) +
-					" east: " + state.getValue(EAST) + " south: " + state.getValue(SOUTH) + " west: " + state.getValue(WEST) +
-					"up_open:" + state.getValue(OPEN_UP) + " down_open: " + state.getValue(OPEN_DOWN) + " north_open: " + state.getValue(OPEN_NORTH) +
-					" east_open: " + state.getValue(OPEN_EAST) + " south_open: " + state.getValue(OPEN_SOUTH) + " west_open: " + state.getValue(OPEN_WEST);
-			if (OVERALL_AABB_MAP.get(key) == null) {
-				VoxelShape shape = generateRatTubeState(state);
-				OVERALL_AABB_MAP.put(key, shape);
-				return shape;
-			} else {
-				return OVERALL_AABB_MAP.get(key);
-			}
-		}
-		return super.getShape(state, level, pos, context);
+		VoxelShape shape = this.shapeByState.get(state);
+		return shape != null ? shape : super.getShape(state, level, pos, context);
 	}
 
 	public VoxelShape generateRatTubeState(BlockState state) {
-		VoxelShape shape = Block.box(0, 0, 0, 0, 0, 0);
-		if (state.getBlock() instanceof RatTubeBlock) {
-			if (!state.getValue(UP) && !state.getValue(OPEN_UP)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB, Direction.UP, AABB_MAP), BooleanOp.OR);
-			}
-			if (!state.getValue(DOWN) && !state.getValue(OPEN_DOWN)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB, Direction.DOWN, AABB_MAP), BooleanOp.OR);
-			}
-			if (!state.getValue(NORTH) && !state.getValue(OPEN_NORTH)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB, Direction.NORTH, AABB_MAP), BooleanOp.OR);
-			}
-			if (!state.getValue(SOUTH) && !state.getValue(OPEN_SOUTH)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB, Direction.SOUTH, AABB_MAP), BooleanOp.OR);
-			}
-			if (!state.getValue(EAST) && !state.getValue(OPEN_EAST)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB, Direction.EAST, AABB_MAP), BooleanOp.OR);
-			}
-			if (!state.getValue(WEST) && !state.getValue(OPEN_WEST)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB, Direction.WEST, AABB_MAP), BooleanOp.OR);
-			}
-
-			if (state.getValue(UP)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_1, Direction.UP, AABB_CONNECTOR_1_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_2, Direction.UP, AABB_CONNECTOR_2_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_3, Direction.UP, AABB_CONNECTOR_3_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_4, Direction.UP, AABB_CONNECTOR_4_MAP), BooleanOp.OR);
-			}
-			if (state.getValue(DOWN)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_1, Direction.DOWN, AABB_CONNECTOR_1_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_2, Direction.DOWN, AABB_CONNECTOR_2_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_3, Direction.DOWN, AABB_CONNECTOR_3_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_4, Direction.DOWN, AABB_CONNECTOR_4_MAP), BooleanOp.OR);
-			}
-			if (state.getValue(NORTH)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_1, Direction.NORTH, AABB_CONNECTOR_1_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_2, Direction.NORTH, AABB_CONNECTOR_2_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_3, Direction.NORTH, AABB_CONNECTOR_3_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_4, Direction.NORTH, AABB_CONNECTOR_4_MAP), BooleanOp.OR);
-			}
-			if (state.getValue(SOUTH)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_1, Direction.SOUTH, AABB_CONNECTOR_1_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_2, Direction.SOUTH, AABB_CONNECTOR_2_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_3, Direction.SOUTH, AABB_CONNECTOR_3_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_4, Direction.SOUTH, AABB_CONNECTOR_4_MAP), BooleanOp.OR);
-			}
-			if (state.getValue(EAST)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_1, Direction.EAST, AABB_CONNECTOR_1_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_2, Direction.EAST, AABB_CONNECTOR_2_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_3, Direction.EAST, AABB_CONNECTOR_3_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_4, Direction.EAST, AABB_CONNECTOR_4_MAP), BooleanOp.OR);
-			}
-			if (state.getValue(WEST)) {
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_1, Direction.WEST, AABB_CONNECTOR_1_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_2, Direction.WEST, AABB_CONNECTOR_2_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_3, Direction.WEST, AABB_CONNECTOR_3_MAP), BooleanOp.OR);
-				shape = Shapes.join(shape, rotateWithMap(UP_AABB_CONNECT_4, Direction.WEST, AABB_CONNECTOR_4_MAP), BooleanOp.OR);
+		VoxelShape shape = Shapes.empty();
+		for (Direction direction : Direction.values()) {
+			if (state.getValue(getConnectProperty(direction))) {
+				shape = Shapes.or(shape, CONNECTOR_BY_DIRECTION.get(direction));
+			} else if (!state.getValue(getOpenProperty(direction))) {
+				shape = Shapes.or(shape, WALL_BY_DIRECTION.get(direction));
 			}
 		}
 		return shape.optimize();
 	}
 
-	public VoxelShape rotateWithMap(VoxelShape aabb, Direction facing, Map<Direction, VoxelShape> checkMap) {
-		if (checkMap.get(facing) == null) {
-			VoxelShape newAABB = rotateAABB(aabb, facing);
-			checkMap.put(facing, newAABB);
-			return newAABB;
-		} else {
-			return checkMap.get(facing);
-		}
-	}
-
 	private boolean canBeOpenNextToBlock(BlockState sideState) {
 		return !(sideState.getBlock() instanceof RatTubeBlock);
 	}
@@ -253,16 +225,8 @@ public class RatTubeBlock extends BaseEntityBlock {
 			return InteractionResult.PASS;
 		} else {
 			Direction side = hit.getDirection();
-			BooleanProperty changing;
+			BooleanProperty changing = getOpenProperty(side);
 			BooleanProperty[] allOpenVars = new BooleanProperty[]{OPEN_DOWN, OPEN_EAST, OPEN_NORTH, OPEN_SOUTH, OPEN_UP, OPEN_WEST};
-			changing = switch (side) {
-				case NORTH -> OPEN_NORTH;
-				case SOUTH -> OPEN_SOUTH;
-				case EAST -> OPEN_EAST;
-				case WEST -> OPEN_WEST;
-				case DOWN -> OPEN_DOWN;
-				default -> OPEN_UP;
-			};
 			boolean alreadyOpened = false;
 			for (BooleanProperty opened : allOpenVars) {
 				if (state.getValue(opened)) {
@@ -299,6 +263,22 @@ public class RatTubeBlock extends BaseEntityBlock {
 		}
 	}
 
+	@Override
+	public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean moving) {
+		super.onPlace(state, level, pos, oldState, moving);
+		if (!level.isClientSide() && state != oldState) {
+			RatTubeNetwork.onTubeChanged(level, pos);
+		}
+	}
+
+	@Override
+	public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean moving) {
+		if (!level.isClientSide() && !newState.is(this)) {
+			RatTubeNetwork.onTubeChanged(level, pos);
+		}
+		super.onRemove(state, level, pos, newState, moving);
+	}
+
 	@Override
 	public void playerWillDestroy(Level level, BlockPos pos, BlockState state, Player player) {
 		BlockEntity tileentity = level.getBlockEntity(pos);
@@ -337,44 +317,26 @@ public class RatTubeBlock extends BaseEntityBlock {
 
 	@Override
 	public BlockState updateShape(BlockState state, Direction facing, BlockState facingState, LevelAccessor level, BlockPos currentPos, BlockPos facingPos) {
-		BooleanProperty notOpen;
-		BooleanProperty connect;
-		switch (facing) {
-			case NORTH -> {
-				notOpen = OPEN_NORTH;
-				connect = NORTH;
-			}
-			case SOUTH -> {
-				notOpen = OPEN_SOUTH;
-				connect = SOUTH;
-			}
-			case EAST -> {
-				notOpen = OPEN_EAST;
-				connect = EAST;
-			}
-			case WEST -> {
-				notOpen = OPEN_WEST;
-				connect = WEST;
-			}
-			case DOWN -> {
-				notOpen = OPEN_DOWN;
-				connect = DOWN;
-			}
-			default -> {
-				notOpen = OPEN_UP;
-				connect = UP;
-			}
-		}
 		BlockState newState = state;
-		newState = newState.setValue(connect, this.canConnectTo(facingState));
-		newState = newState.setValue(notOpen, false);
+		newState = newState.setValue(getConnectProperty(facing), this.canConnectTo(facingState));
+		newState = newState.setValue(getOpenProperty(facing), false);
 		return newState;
 	}
 
-	@Nullable
 	@Override
-	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
-		return createTickerHelper(type, RatsBlockEntityRegistry.RAT_TUBE.get(), RatTubeBlockEntity::tick);
+	public void entityInside(BlockState state, Level level, BlockPos pos, Entity entity) {
+		if (entity instanceof Rat && isOpen(state) && entity.getBoundingBox().intersects(OPENING_AABB.move(pos))) {
+			entity.makeStuckInBlock(state, new Vec3(1.75F, 1, 1.75F));
+		}
+	}
+
+	private static boolean isOpen(BlockState state) {
+		for (BooleanProperty opened : ALL_OPEN_PROPS) {
+			if (state.getValue(opened)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -49,7 +49,9 @@ public class UpgradeCombinerBlock extends BaseEntityBlock {
 	@Nullable
 	@Override
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
-		return createTickerHelper(type, RatsBlockEntityRegistry.UPGRADE_COMBINER.get(), UpgradeCombinerBlockEntity::tick);
+		return level.isClientSide() ?
+				createTickerHelper(type, RatsBlockEntityRegistry.UPGRADE_COMBINER.get(), UpgradeCombinerBlockEntity::clientTick) :
+				createTickerHelper(type, RatsBlockEntityRegistry.UPGRADE_COMBINER.get(), UpgradeCombinerBlockEntity::serverTick);
 	}
 
 	@Override
@@ -50,12 +50,16 @@ import java.util.Optional;
 public class AutoCurdlerBlockEntity extends BaseContainerBlockEntity implements WorldlyContainer, MenuProvider {
 	private static final int[] SLOTS_TOP = new int[]{0};
 	private static final int[] SLOTS_BOTTOM = new int[]{1};
+	//the renderer can't show changes much smaller than this, open menus get the exact amount through the container data
+	private static final int FLUID_SYNC_THRESHOLD = 100;
 	private final FluidTank tank = new FluidTank(FluidType.BUCKET_VOLUME * 5, fluidStack -> fluidStack.getFluid().isSame(ForgeMod.MILK.get()));
 	final LazyOptional<? extends IItemHandler>[] handlers = SidedInvWrapper.create(this, Direction.UP, Direction.DOWN);
 	private final LazyOptional<IFluidHandler> holder = LazyOptional.of(() -> this.tank);
 	private NonNullList<ItemStack> curdlerStacks = NonNullList.withSize(2, ItemStack.EMPTY);
 	public int cookTime;
 	public int totalCookTime;
+	private boolean fluidChanged;
+	private FluidStack syncedFluid = FluidStack.EMPTY;
 	public final ContainerData data = new ContainerData() {
 		public int get(int index) {
 			return switch (index) {
@@ -152,6 +156,12 @@ public class AutoCurdlerBlockEntity extends BaseContainerBlockEntity implements
 		ContainerHelper.saveAllItems(compound, this.curdlerStacks);
 	}
 
+	//players who start tracking the chunk get the tank contents from here, later changes arrive through UpdateCurdlerFluidPacket
+	@Override
+	public CompoundTag getUpdateTag() {
+		return this.saveWithId();
+	}
+
 	@Override
 	public int getMaxStackSize() {
 		return 64;
@@ -211,9 +221,24 @@ public class AutoCurdlerBlockEntity extends BaseContainerBlockEntity implements
 					});
 				});
 			}
+			//small changes are held back while the tank keeps changing, then flushed on the first tick it settles so clients end up with the exact amount
+			if (!te.tank.getFluid().isFluidStackIdentical(te.syncedFluid) && (!te.fluidChanged || te.shouldSyncFluid())) {
+				te.syncedFluid = te.tank.getFluid().copy();
+				RatsNetworkHandler.CHANNEL.send(PacketDistributor.TRACKING_CHUNK.with(() -> level.getChunkAt(pos)), new UpdateCurdlerFluidPacket(pos.asLong(), te.tank.getFluid()));
+			}
+			te.fluidChanged = false;
 		}
 	}
 
+	private boolean shouldSyncFluid() {
+		FluidStack fluid = this.tank.getFluid();
+		if (!fluid.isFluidEqual(this.syncedFluid)) {
+			return true;
+		}
+		int amount = fluid.getAmount();
+		return Math.abs(amount - this.syncedFluid.getAmount()) >= FLUID_SYNC_THRESHOLD || (amount != this.syncedFluid.getAmount() && (amount == 0 || amount == this.tank.getCapacity()));
+	}
+
 	public void makeCheese(Level level) {
 		if (this.canMakeCheese()) {
 			ItemStack toAdd = new ItemStack(RatsBlockRegistry.BLOCK_OF_CHEESE.get());
@@ -262,9 +287,14 @@ public class AutoCurdlerBlockEntity extends BaseContainerBlockEntity implements
 	@Override
 	public void setChanged() {
 		super.setChanged();
-		if (this.getLevel() != null && !this.getLevel().isClientSide()) {
-			RatsNetworkHandler.CHANNEL.send(PacketDistributor.ALL.noArg(), new UpdateCurdlerFluidPacket(this.getBlockPos().asLong(), this.tank.getFluid()));
-		}
+		this.syncFluid();
+	}
+
+	/**
+	 * Queues the tank contents to be sent to players tracking this curdler's chunk. At most one update is sent per tick.
+	 */
+	public void syncFluid() {
+		this.fluidChanged = true;
 	}
 
 	@Override
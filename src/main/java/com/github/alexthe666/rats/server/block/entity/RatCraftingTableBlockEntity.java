@@ -1,5 +1,6 @@
 package com.github.alexthe666.rats.server.block.entity;
 
+import com.github.alexthe666.rats.RatConfig;
 import com.github.alexthe666.rats.registry.RatsBlockEntityRegistry;
 import com.github.alexthe666.rats.registry.RatsItemRegistry;
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
@@ -12,7 +13,9 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
 import net.minecraft.world.Clearable;
@@ -28,12 +31,12 @@ import net.minecraft.world.inventory.RecipeHolder;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
@@ -59,6 +62,8 @@ public class RatCraftingTableBlockEntity extends BlockEntity implements MenuProv
 	private Component customName;
 	public int prevCookTime;
 	private boolean hasRat;
+	@Nullable
+	private TamedRat worker;
 	public boolean hasValidRecipe;
 	private int cookTime;
 	protected StackedContents itemHelper = new StackedContents();
@@ -67,6 +72,9 @@ public class RatCraftingTableBlockEntity extends BlockEntity implements MenuProv
 	protected List<CraftingRecipe> possibleRecipes = List.of();
 	public int totalCookTime = 200;
 	private int selectedRecipeIndex = 0;
+	private boolean guideChanged = true;
+	@Nullable
+	private RecipeManager recipeManager;
 	private final ContainerData dataAccess = new ContainerData() {
 		public int get(int index) {
 			return switch (index) {
@@ -104,33 +112,33 @@ public class RatCraftingTableBlockEntity extends BlockEntity implements MenuProv
 	}
 
 	public static void tick(Level level, BlockPos pos, BlockState state, RatCraftingTableBlockEntity te) {
-		te.hasRat = false;
-		te.totalCookTime = 200;
-
-		for (TamedRat rat : level.getEntitiesOfClass(TamedRat.class, new AABB(pos.getX(), (double) pos.getY() + 1, pos.getZ(), (double) pos.getX() + 1, (double) pos.getY() + 2, (double) pos.getZ() + 1))) {
-			if (RatUpgradeUtils.hasUpgrade(rat, RatsItemRegistry.RAT_UPGRADE_CRAFTING.get())) {
-				te.hasRat = true;
-				if (RatUpgradeUtils.hasUpgrade(rat, RatsItemRegistry.RAT_UPGRADE_SPEED.get())) {
-					te.totalCookTime = 100;
-				}
-			}
+		//the worker registers itself every tick it sits on the table and unbinds itself when it leaves the level, so only check that it's still there and still able to craft
+		TamedRat worker = te.worker;
+		if (worker != null && (worker.isRemoved() || !worker.isAlive() || !worker.blockPosition().below().equals(pos) || !RatUpgradeUtils.hasUpgrade(worker, RatsItemRegistry.RAT_UPGRADE_CRAFTING.get()))) {
+			te.worker = null;
+		}
+		te.totalCookTime = te.worker != null && RatUpgradeUtils.hasUpgrade(te.worker, RatsItemRegistry.RAT_UPGRADE_SPEED.get()) ? 100 : 200;
+		if (te.hasRat != (te.worker != null)) {
+			te.hasRat = te.worker != null;
+			level.sendBlockUpdated(pos, state, state, 3);
 		}
 
-		if (!level.isClientSide()) {
-			te.prevCookTime = te.cookTime;
+		te.prevCookTime = te.cookTime;
 
-			if (te.getRecipeUsed() != null && te.hasRat && te.cookTime < te.totalCookTime) {
-				te.cookTime++;
-			} else {
-				te.cookTime = Mth.clamp(te.cookTime - 2, 0, te.totalCookTime);
-			}
-			if (te.cookTime >= te.totalCookTime) {
-				te.cookTime = 0;
+		if (te.getRecipeUsed() != null && te.hasRat && te.cookTime < te.totalCookTime) {
+			te.cookTime++;
+		} else {
+			te.cookTime = Mth.clamp(te.cookTime - 2, 0, te.totalCookTime);
+		}
+		if (te.cookTime >= te.totalCookTime) {
+			te.cookTime = 0;
+			//consuming ingredients updates the recipe in use, so this stops once the buffer runs dry or the result slot fills up
+			for (int i = 0; i < RatConfig.ratCraftingBatchSize && te.recipeUsed.isPresent(); i++) {
 				ItemStack addStack = te.recipeUsed.map(r -> r.assemble(te.matrixWrapper.resolve().orElseThrow(), level.registryAccess())).orElse(ItemStack.EMPTY);
 				te.resultHandler.ifPresent(h -> h.setStackInSlot(0, addStack.copyWithCount(addStack.getCount() + h.getStackInSlot(0).getCount())));
 				te.consumeIngredients(null);
-				te.updateRecipe();
 			}
+			te.updateRecipe();
 		}
 	}
 
@@ -138,6 +146,20 @@ public class RatCraftingTableBlockEntity extends BlockEntity implements MenuProv
 		return this.hasRat;
 	}
 
+	/**
+	 * Binds the given rat to this table as its worker. Rats unbind themselves when they're removed from the level,
+	 * and the table lets go of them once they die, step off or lose their crafting upgrade.
+	 */
+	public void setWorker(TamedRat rat) {
+		this.worker = rat;
+	}
+
+	public void removeWorker(TamedRat rat) {
+		if (this.worker == rat) {
+			this.worker = null;
+		}
+	}
+
 	public int getCookTime() {
 		return this.cookTime;
 	}
@@ -147,11 +169,21 @@ public class RatCraftingTableBlockEntity extends BlockEntity implements MenuProv
 		this.checkIfRecipeIsValid(this.recipeUsed, this.itemHelper);
 	}
 
+	public void onGuideChanged() {
+		this.guideChanged = true;
+	}
+
 	public void updateRecipe() {
 		AtomicBoolean flag = new AtomicBoolean(true);
 		if (this.getLevel() != null) {
 			this.matrixWrapper.ifPresent(w -> {
-				this.possibleRecipes = this.getLevel().getRecipeManager().getRecipesFor(RecipeType.CRAFTING, w, this.getLevel());
+				//the recipes matching the guide grid only change when the grid itself does, or when a datapack reload replaces the recipe manager
+				RecipeManager manager = this.getLevel().getRecipeManager();
+				if (this.guideChanged || manager != this.recipeManager) {
+					this.guideChanged = false;
+					this.recipeManager = manager;
+					this.possibleRecipes = manager.getRecipesFor(RecipeType.CRAFTING, w, this.getLevel());
+				}
 				if (this.possibleRecipes.isEmpty()) {
 					flag.set(false);
 				} else {
@@ -248,6 +280,8 @@ public class RatCraftingTableBlockEntity extends BlockEntity implements MenuProv
 		}
 		this.cookTime = tag.getInt("CookTime");
 		this.selectedRecipeIndex = tag.getInt("SelectedRecipe");
+		this.guideChanged = true;
+		this.hasRat = tag.getBoolean("HasRat");
 	}
 
 	@Override
@@ -263,6 +297,23 @@ public class RatCraftingTableBlockEntity extends BlockEntity implements MenuProv
 		tag.putInt("SelectedRecipe", this.selectedRecipeIndex);
 	}
 
+	@Override
+	public ClientboundBlockEntityDataPacket getUpdatePacket() {
+		return ClientboundBlockEntityDataPacket.create(this, BlockEntity::getUpdateTag);
+	}
+
+	@Override
+	public void onDataPacket(Connection net, ClientboundBlockEntityDataPacket packet) {
+		this.handleUpdateTag(packet.getTag());
+	}
+
+	@Override
+	public CompoundTag getUpdateTag() {
+		CompoundTag tag = this.saveWithId();
+		tag.putBoolean("HasRat", this.hasRat);
+		return tag;
+	}
+
 	@Nonnull
 	@Override
 	public Component getDisplayName() {
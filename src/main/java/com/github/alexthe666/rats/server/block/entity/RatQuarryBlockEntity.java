@@ -3,6 +3,7 @@ package com.github.alexthe666.rats.server.block.entity;
 import com.github.alexthe666.rats.data.tags.RatsBlockTags;
 import com.github.alexthe666.rats.registry.RatsBlockEntityRegistry;
 import com.github.alexthe666.rats.registry.RatsBlockRegistry;
+import com.github.alexthe666.rats.server.misc.RatUtils;
 import com.github.alexthe666.rats.server.misc.RatsLangConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -33,13 +34,24 @@ import net.minecraftforge.items.wrapper.SidedInvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
 public class RatQuarryBlockEntity extends BaseContainerBlockEntity implements WorldlyContainer {
 	private static final int[] STACKS = IntStream.range(0, 64).toArray();
+	//how often the layers above the cursor are checked again for blocks placed or flowing back in after we cleared them
+	private static final int RESCAN_INTERVAL = 600;
 	private final LazyOptional<? extends IItemHandler>[] handlers = SidedInvWrapper.create(this, Direction.UP, Direction.DOWN);
 	private NonNullList<ItemStack> inventory = NonNullList.withSize(64, ItemStack.EMPTY);
 	private int tick;
+	//the layer rats are currently digging through, alongside the blocks left on it that any rat could break
+	private int miningLayer = Integer.MAX_VALUE;
+	private final List<BlockPos> miningLayerBlocks = new ArrayList<>();
+	private boolean miningLayerCached;
+	private long nextRescan;
 
 	public RatQuarryBlockEntity(BlockPos pos, BlockState state) {
 		super(RatsBlockEntityRegistry.RAT_QUARRY.get(), pos, state);
@@ -152,11 +164,16 @@ public class RatQuarryBlockEntity extends BaseContainerBlockEntity implements Wo
 		super.load(compound);
 		this.inventory = NonNullList.withSize(this.getContainerSize(), ItemStack.EMPTY);
 		ContainerHelper.loadAllItems(compound, this.inventory);
+		this.miningLayer = compound.contains("MiningLayer") ? compound.getInt("MiningLayer") : Integer.MAX_VALUE;
+		this.miningLayerCached = false;
 	}
 
 	public void saveAdditional(CompoundTag compound) {
 		super.saveAdditional(compound);
 		ContainerHelper.saveAllItems(compound, this.inventory);
+		if (this.miningLayer != Integer.MAX_VALUE) {
+			compound.putInt("MiningLayer", this.miningLayer);
+		}
 	}
 
 	@Override
@@ -207,6 +224,103 @@ public class RatQuarryBlockEntity extends BaseContainerBlockEntity implements Wo
 		return 2;
 	}
 
+	/**
+	 * Finds the next block in the quarry column a rat can break, resuming from the layer the last search ended on.
+	 * The shared cursor moves past every layer that has nothing left any rat could break (fluids, containers and blocks that are too hard don't count),
+	 * while a rat whose filter rejects what's left on a layer keeps looking further down on its own without dragging the other rats along.
+	 * Layers above the cursor are rechecked every so often, and once the bottom of the world is reached the search starts over from the top, so blocks that show up in layers we already cleared are still found eventually.
+	 *
+	 * @param canMine checks whether the rat asking is able to mine the given position
+	 * @return the position to mine, or null if nothing was found this time around
+	 */
+	@Nullable
+	public BlockPos findNextMiningTarget(Level level, Predicate<BlockPos> canMine) {
+		int topLayer = this.getBlockPos().getY() - 1;
+		if (this.miningLayer > topLayer) {
+			this.setMiningLayer(topLayer);
+		}
+		if (level.getGameTime() >= this.nextRescan) {
+			this.nextRescan = level.getGameTime() + RESCAN_INTERVAL;
+			this.rescanAboveMiningLayer(level, topLayer);
+		}
+		boolean clearedSoFar = true;
+		for (int layer = this.miningLayer; layer >= level.getMinBuildHeight(); layer--) {
+			List<BlockPos> blocks;
+			if (clearedSoFar) {
+				if (!this.miningLayerCached) {
+					this.collectLayer(level, this.miningLayer, this.miningLayerBlocks);
+					this.miningLayerCached = true;
+				}
+				blocks = this.miningLayerBlocks;
+			} else {
+				blocks = this.collectLayer(level, layer, new ArrayList<>());
+			}
+			BlockPos waterlogged = null;
+			Iterator<BlockPos> it = blocks.iterator();
+			while (it.hasNext()) {
+				BlockPos pos = it.next();
+				if (!this.isMineable(level, pos)) {
+					it.remove();
+				} else if (canMine.test(pos)) {
+					//prefer blocks that wont release a fluid source on the rat
+					if (!level.getFluidState(pos).isSource()) {
+						return pos;
+					}
+					if (waterlogged == null) {
+						waterlogged = pos;
+					}
+				}
+			}
+			if (waterlogged != null) {
+				return waterlogged;
+			}
+			if (clearedSoFar && blocks.isEmpty()) {
+				this.setMiningLayer(layer - 1);
+			} else {
+				clearedSoFar = false;
+			}
+		}
+		if (clearedSoFar) {
+			this.setMiningLayer(topLayer);
+		}
+		return null;
+	}
+
+	private void setMiningLayer(int layer) {
+		this.miningLayer = layer;
+		this.miningLayerCached = false;
+		this.setChanged();
+	}
+
+	//moves the cursor back up to the highest layer above it that has something left to break
+	private void rescanAboveMiningLayer(Level level, int topLayer) {
+		List<BlockPos> blocks = new ArrayList<>();
+		for (int layer = topLayer; layer > this.miningLayer; layer--) {
+			if (!this.collectLayer(level, layer, blocks).isEmpty()) {
+				this.setMiningLayer(layer);
+				return;
+			}
+		}
+	}
+
+	private List<BlockPos> collectLayer(Level level, int layer, List<BlockPos> blocks) {
+		blocks.clear();
+		for (int x = -this.getRadius(); x <= this.getRadius(); x++) {
+			for (int z = -this.getRadius(); z <= this.getRadius(); z++) {
+				BlockPos pos = new BlockPos(this.getBlockPos().getX() + x, layer, this.getBlockPos().getZ() + z);
+				if (this.isMineable(level, pos)) {
+					blocks.add(pos);
+				}
+			}
+		}
+		return blocks;
+	}
+
+	//whether any rat could mine this block, leaving out the checks that depend on the rat asking (its item filter, protection events)
+	private boolean isMineable(Level level, BlockPos pos) {
+		return !level.getBlockState(pos).is(RatsBlockTags.QUARRY_IGNORABLES) && RatUtils.isBreakableByRats(level, pos);
+	}
+
 	public BlockPos getNextPosForStairs(Level level) {
 		int yLevel = this.getBlockPos().getY() - 1;
 		BlockPos stairPos = this.getBlockPos().offset(-this.getRadius(), -1, -this.getRadius());
@@ -42,10 +42,12 @@ public class UpgradeCombinerBlockEntity extends BaseContainerBlockEntity impleme
 	private static final int[] SLOTS_TOP = new int[]{0, 2};
 	private static final int[] SLOTS_SIDE = new int[]{1};
 	private static final int[] SLOTS_BOTTOM = new int[]{3};
+	private static final int PLAYER_SAMPLE_INTERVAL = 5;
 	public int tickCount;
 	public float ratRotation;
 	public float ratRotationPrev;
 	public float tRot;
+	private boolean playerNearby;
 	public int burnTime;
 	public int burnDuration;
 	public int cookTime;
@@ -184,16 +186,20 @@ public class UpgradeCombinerBlockEntity extends BaseContainerBlockEntity impleme
 		return this.burnTime > 0;
 	}
 
-	public static void tick(Level level, BlockPos pos, BlockState state, UpgradeCombinerBlockEntity te) {
-		te.totalCookTime = 300;
+	public static void clientTick(Level level, BlockPos pos, BlockState state, UpgradeCombinerBlockEntity te) {
 		te.ratRotationPrev = te.ratRotation;
 		te.tickCount++;
-		Player player = level.getNearestPlayer((float) pos.getX() + 0.5F, (float) pos.getY() + 0.5F, (float) pos.getZ() + 0.5F, 10.0D, false);
-		if (player != null) {
-			double d0 = player.getX() - (double) ((float) pos.getX() + 0.5F);
-			double d1 = player.getZ() - (double) ((float) pos.getZ() + 0.5F);
-			te.tRot = (float) Mth.atan2(d1, d0);
-		} else {
+		//the spirit eases towards its target every tick anyway, so the nearest player only needs to be looked up every few ticks
+		if (te.tickCount % PLAYER_SAMPLE_INTERVAL == 0) {
+			Player player = level.getNearestPlayer((float) pos.getX() + 0.5F, (float) pos.getY() + 0.5F, (float) pos.getZ() + 0.5F, 10.0D, false);
+			te.playerNearby = player != null;
+			if (player != null) {
+				double d0 = player.getX() - (double) ((float) pos.getX() + 0.5F);
+				double d1 = player.getZ() - (double) ((float) pos.getZ() + 0.5F);
+				te.tRot = (float) Mth.atan2(d1, d0);
+			}
+		}
+		if (!te.playerNearby) {
 			te.tRot += 0.04F;
 		}
 
@@ -215,22 +221,23 @@ public class UpgradeCombinerBlockEntity extends BaseContainerBlockEntity impleme
 
 		te.ratRotation += f2 * 0.4F;
 
+		float radius = (float) Math.sin(te.tickCount * 0.1D);
+		double extraY = pos.getY() + 1.05;
+		for (int i = 0; i < 3; i++) {
+			float angle = (0.01745329251F * (te.tickCount * 4 + i * 120));
+			double extraX = (double) (radius * Mth.sin((float) (Math.PI + angle))) + pos.getX() + 0.5D;
+			double extraZ = (double) (radius * Mth.cos(angle)) + pos.getZ() + 0.5D;
+			level.addParticle(RatsParticleRegistry.UPGRADE_COMBINER.get(), extraX, extraY, extraZ, 0F, 0F, 0F);
+		}
+	}
+
+	public static void serverTick(Level level, BlockPos pos, BlockState state, UpgradeCombinerBlockEntity te) {
+		te.totalCookTime = 300;
 
 		if (te.isBurning()) {
 			--te.burnTime;
 		}
 
-		if (level.isClientSide()) {
-			float radius = (float) Math.sin(te.tickCount * 0.1D);
-			double extraY = pos.getY() + 1.05;
-			for (int i = 0; i < 3; i++) {
-				float angle = (0.01745329251F * (te.tickCount * 4 + i * 120));
-				double extraX = (double) (radius * Mth.sin((float) (Math.PI + angle))) + pos.getX() + 0.5D;
-				double extraZ = (double) (radius * Mth.cos(angle)) + pos.getZ() + 0.5D;
-				level.addParticle(RatsParticleRegistry.UPGRADE_COMBINER.get(), extraX, extraY, extraZ, 0F, 0F, 0F);
-			}
-		}
-
 		ItemStack fuel = te.combinerStacks.get(1);
 		if (te.isBurning() || !fuel.isEmpty() && !te.combinerStacks.get(0).isEmpty() && !te.combinerStacks.get(2).isEmpty()) {
 			if (!te.isBurning() && te.canSmelt()) {
@@ -3,12 +3,10 @@ package com.github.alexthe666.rats.server.entity.ai.goal;
 import com.github.alexthe666.rats.registry.RatsItemRegistry;
 import com.github.alexthe666.rats.server.block.entity.AutoCurdlerBlockEntity;
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
-import com.github.alexthe666.rats.server.message.RatsNetworkHandler;
-import com.github.alexthe666.rats.server.message.UpdateCurdlerFluidPacket;
-import com.github.alexthe666.rats.server.message.UpdateRatFluidPacket;
 import com.github.alexthe666.rats.server.misc.RatUpgradeUtils;
 import com.github.alexthe666.rats.server.misc.RatUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.Container;
@@ -19,7 +17,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.ChestBlockEntity;
 import net.minecraft.world.level.gameevent.GameEvent;
-import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.util.LazyOptional;
@@ -28,7 +25,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemHandlerHelper;
-import net.minecraftforge.network.PacketDistributor;
 
 import java.util.EnumSet;
 import java.util.List;
@@ -37,6 +33,10 @@ public class RatDepositGoal extends Goal implements RatWorkGoal {
 	private final TamedRat rat;
 	private final DepositType type;
 	private BlockPos targetBlock = null;
+	private LazyOptional<IItemHandler> itemHandler = LazyOptional.empty();
+	private BlockEntity itemHandlerOwner;
+	private Direction itemHandlerFacing;
+	private int depositSlot;
 
 	public RatDepositGoal(TamedRat entity, DepositType type) {
 		super();
@@ -62,10 +62,10 @@ public class RatDepositGoal extends Goal implements RatWorkGoal {
 				return false;
 			}
 			if (RatUpgradeUtils.hasUpgrade(this.rat, RatsItemRegistry.RAT_UPGRADE_PLATTER.get())) {
-				if (this.rat.getMainHandItem().getCount() < 64 && !this.getItemsOfTypeAround(this.rat.getMainHandItem()).isEmpty())
+				if (this.rat.getMainHandItem().getCount() < 64 && this.anyItemsOfTypeAround(this.rat.getMainHandItem()))
 					return false;
 			}
-			if (te.getCapability(ForgeCapabilities.ITEM_HANDLER, this.rat.depositFacing).resolve().isEmpty()) {
+			if (!this.getItemHandler(te).isPresent()) {
 				return false;
 			}
 
@@ -88,12 +88,9 @@ public class RatDepositGoal extends Goal implements RatWorkGoal {
 		return targetBlock != null;
 	}
 
-	private List<ItemEntity> getItemsOfTypeAround(ItemStack stack) {
-		return this.rat.level().getEntitiesOfClass(ItemEntity.class, this.rat.getBoundingBox().inflate(this.rat.getRadius()), item -> {
-			if (!ItemStack.isSameItemSameTags(stack, item.getItem())) return false;
-			Path path = this.rat.getNavigation().createPath(item, 1);
-			return path != null && path.canReach();
-		});
+	private boolean anyItemsOfTypeAround(ItemStack stack) {
+		List<ItemEntity> items = this.rat.level().getEntitiesOfClass(ItemEntity.class, this.rat.getBoundingBox().inflate(this.rat.getRadius()), item -> ItemStack.isSameItemSameTags(stack, item.getItem()));
+		return !items.isEmpty() && this.rat.getItemFinder().find(items) != null;
 	}
 
 	private void resetTarget() {
@@ -103,7 +100,7 @@ public class RatDepositGoal extends Goal implements RatWorkGoal {
 	@Override
 	public boolean canContinueToUse() {
 		if (RatUpgradeUtils.hasUpgrade(this.rat, RatsItemRegistry.RAT_UPGRADE_PLATTER.get())) {
-			if (this.rat.getMainHandItem().getCount() < 64 && this.getItemsOfTypeAround(this.rat.getMainHandItem()).isEmpty())
+			if (this.rat.getMainHandItem().getCount() < 64 && !this.anyItemsOfTypeAround(this.rat.getMainHandItem()))
 				return false;
 		}
 		return this.targetBlock != null && !this.rat.getItemInHand(InteractionHand.MAIN_HAND).isEmpty() && this.rat.shouldDepositItem(this.rat.getMainHandItem());
@@ -157,19 +154,10 @@ public class RatDepositGoal extends Goal implements RatWorkGoal {
 
 	private void executeTask(BlockEntity entity) {
 		if (this.type == DepositType.INVENTORY) {
-			LazyOptional<IItemHandler> handler = entity.getCapability(ForgeCapabilities.ITEM_HANDLER, this.rat.depositFacing);
-			if (handler.resolve().isPresent()) {
-				IItemHandler resolvedHandler = handler.resolve().get();
-				ItemStack duplicate = this.rat.getItemInHand(InteractionHand.MAIN_HAND).copy();
-				if (!ItemHandlerHelper.insertItem(resolvedHandler, duplicate, true).equals(duplicate)) {
-					ItemStack shrunkenStack = ItemHandlerHelper.insertItem(resolvedHandler, duplicate, false);
-					if (shrunkenStack.isEmpty()) {
-						this.rat.setItemInHand(InteractionHand.MAIN_HAND, ItemStack.EMPTY);
-					} else {
-						this.rat.setItemInHand(InteractionHand.MAIN_HAND, shrunkenStack);
-					}
-				}
-			}
+			this.getItemHandler(entity).ifPresent(handler -> {
+				ItemStack remaining = this.insertItem(handler, this.rat.getItemInHand(InteractionHand.MAIN_HAND).copy());
+				this.rat.setItemInHand(InteractionHand.MAIN_HAND, remaining);
+			});
 		} else if (this.type == DepositType.ENERGY) {
 			LazyOptional<IEnergyStorage> handler = entity.getCapability(ForgeCapabilities.ENERGY, this.rat.depositFacing);
 			if (handler.resolve().isPresent()) {
@@ -223,9 +211,9 @@ public class RatDepositGoal extends Goal implements RatWorkGoal {
 							this.rat.transportingFluid.setAmount(total);
 						}
 						if (!this.rat.level().isClientSide()) {
-							RatsNetworkHandler.CHANNEL.send(PacketDistributor.ALL.noArg(), new UpdateRatFluidPacket(this.rat.getId(), this.rat.transportingFluid));
+							this.rat.syncTransportingFluid();
 							if (this.rat.level().getBlockEntity(this.targetBlock) instanceof AutoCurdlerBlockEntity curdler) {
-								RatsNetworkHandler.CHANNEL.send(PacketDistributor.ALL.noArg(), new UpdateCurdlerFluidPacket(this.targetBlock.asLong(), curdler.getTank().getFluid()));
+								curdler.syncFluid();
 							}
 						}
 						SoundEvent sound = this.rat.transportingFluid.isEmpty() ? SoundEvents.BUCKET_EMPTY : SoundEvents.BUCKET_FILL;
@@ -236,6 +224,49 @@ public class RatDepositGoal extends Goal implements RatWorkGoal {
 		}
 	}
 
+	/**
+	 * Gets the item handler of the deposit block, reusing the one from the last visit as long as it's still valid.
+	 */
+	private LazyOptional<IItemHandler> getItemHandler(BlockEntity entity) {
+		if (!this.itemHandler.isPresent() || this.itemHandlerOwner != entity || this.itemHandlerFacing != this.rat.depositFacing) {
+			this.itemHandler = entity.getCapability(ForgeCapabilities.ITEM_HANDLER, this.rat.depositFacing);
+			this.itemHandlerOwner = entity;
+			this.itemHandlerFacing = this.rat.depositFacing;
+			this.depositSlot = 0;
+		}
+		return this.itemHandler;
+	}
+
+	/**
+	 * Inserts as much of the stack as possible, topping up matching stacks first like {@link ItemHandlerHelper#insertItemStacked} does.
+	 * Whatever is left goes into empty slots, starting from the slot that last took some so full inventories aren't walked from the start every visit.
+	 */
+	private ItemStack insertItem(IItemHandler handler, ItemStack stack) {
+		int slots = handler.getSlots();
+		if (stack.isStackable()) {
+			for (int slot = 0; slot < slots && !stack.isEmpty(); slot++) {
+				ItemStack existing = handler.getStackInSlot(slot);
+				if (!existing.isEmpty() && ItemHandlerHelper.canItemStacksStack(existing, stack)) {
+					stack = handler.insertItem(slot, stack, false);
+				}
+			}
+		}
+		if (this.depositSlot >= slots) {
+			this.depositSlot = 0;
+		}
+		for (int i = 0; i < slots && !stack.isEmpty(); i++) {
+			int slot = (this.depositSlot + i) % slots;
+			if (handler.getStackInSlot(slot).isEmpty()) {
+				int count = stack.getCount();
+				stack = handler.insertItem(slot, stack, false);
+				if (stack.getCount() != count) {
+					this.depositSlot = slot;
+				}
+			}
+		}
+		return stack;
+	}
+
 	@Override
 	public TaskType getRatTaskType() {
 		return TaskType.DEPOSIT;
@@ -3,8 +3,6 @@ package com.github.alexthe666.rats.server.entity.ai.goal;
 import com.github.alexthe666.rats.registry.RatsItemRegistry;
 import com.github.alexthe666.rats.server.entity.rat.RatCommand;
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
-import com.github.alexthe666.rats.server.message.RatsNetworkHandler;
-import com.github.alexthe666.rats.server.message.UpdateRatFluidPacket;
 import com.github.alexthe666.rats.server.misc.RatUpgradeUtils;
 import com.github.alexthe666.rats.server.misc.RatUtils;
 import net.minecraft.core.BlockPos;
@@ -24,7 +22,6 @@ import net.minecraftforge.energy.IEnergyStorage;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.items.IItemHandler;
-import net.minecraftforge.network.PacketDistributor;
 
 import java.util.EnumSet;
 
@@ -32,6 +29,9 @@ public class RatPickupGoal extends Goal implements RatWorkGoal {
 	private final TamedRat rat;
 	private final PickupType type;
 	private BlockPos targetBlock = null;
+	private LazyOptional<IItemHandler> itemHandler = LazyOptional.empty();
+	private BlockEntity itemHandlerOwner;
+	private int pickupSlot;
 
 	public RatPickupGoal(TamedRat rat, PickupType type) {
 		this.rat = rat;
@@ -121,26 +121,21 @@ public class RatPickupGoal extends Goal implements RatWorkGoal {
 
 	private void executeTask(BlockEntity entity) {
 		if (this.type == PickupType.INVENTORY) {
-			LazyOptional<IItemHandler> handler = entity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN);
-			if (handler.resolve().isPresent()) {
-				int slot = RatUtils.getItemSlotFromItemHandler(this.rat, handler.resolve().get(), this.rat.level().getRandom());
+			this.getItemHandler(entity).ifPresent(handler -> {
 				int extractSize = RatUpgradeUtils.hasUpgrade(this.rat, RatsItemRegistry.RAT_UPGRADE_PLATTER.get()) ? 64 : 1;
 				ItemStack stack = ItemStack.EMPTY;
 				try {
-					if (handler.resolve().get().getSlots() > 0 && handler.resolve().get().extractItem(slot, extractSize, true) != ItemStack.EMPTY) {
-						stack = handler.resolve().get().extractItem(slot, extractSize, false);
-					}
+					stack = this.extractItem(handler, extractSize);
 				} catch (Exception e) {
 					//container is empty
 				}
-				if (slot != -1 && stack != ItemStack.EMPTY) {
-					ItemStack duplicate = stack.copy();
+				if (!stack.isEmpty()) {
 					if (!this.rat.getItemInHand(InteractionHand.MAIN_HAND).isEmpty() && !this.rat.level().isClientSide()) {
 						this.rat.spawnAtLocation(this.rat.getItemInHand(InteractionHand.MAIN_HAND), 0.0F);
 					}
-					this.rat.setItemInHand(InteractionHand.MAIN_HAND, duplicate);
+					this.rat.setItemInHand(InteractionHand.MAIN_HAND, stack.copy());
 				}
-			}
+			});
 		} else if (this.type == PickupType.ENERGY) {
 			LazyOptional<IEnergyStorage> handler = entity.getCapability(ForgeCapabilities.ENERGY, Direction.DOWN);
 			if (handler.resolve().isPresent()) {
@@ -198,7 +193,7 @@ public class RatPickupGoal extends Goal implements RatWorkGoal {
 						this.rat.transportingFluid.setAmount(this.rat.transportingFluid.getAmount() + Math.max(drainedStack.getAmount(), 0));
 					}
 					if (!this.rat.level().isClientSide()) {
-						RatsNetworkHandler.CHANNEL.send(PacketDistributor.ALL.noArg(), new UpdateRatFluidPacket(this.rat.getId(), this.rat.transportingFluid));
+						this.rat.syncTransportingFluid();
 					}
 					SoundEvent sound = this.rat.transportingFluid.isEmpty() ? SoundEvents.BUCKET_FILL : SoundEvents.BUCKET_EMPTY;
 					this.rat.playSound(sound, 1, 1);
@@ -207,6 +202,41 @@ public class RatPickupGoal extends Goal implements RatWorkGoal {
 		}
 	}
 
+	/**
+	 * Gets the item handler of the pickup block, reusing the one from the last visit as long as it's still valid.
+	 */
+	private LazyOptional<IItemHandler> getItemHandler(BlockEntity entity) {
+		if (!this.itemHandler.isPresent() || this.itemHandlerOwner != entity) {
+			this.itemHandler = entity.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.DOWN);
+			this.itemHandlerOwner = entity;
+			this.pickupSlot = 0;
+		}
+		return this.itemHandler;
+	}
+
+	/**
+	 * Extracts from the first slot holding something the rat is allowed to pick up,
+	 * starting from the slot it last took items from so big inventories aren't walked from the start every visit.
+	 */
+	private ItemStack extractItem(IItemHandler handler, int amount) {
+		int slots = handler.getSlots();
+		if (this.pickupSlot >= slots) {
+			this.pickupSlot = 0;
+		}
+		for (int i = 0; i < slots; i++) {
+			int slot = (this.pickupSlot + i) % slots;
+			ItemStack inSlot = handler.getStackInSlot(slot);
+			if (!inSlot.isEmpty() && this.rat.canRatPickupItem(inSlot)) {
+				ItemStack extracted = handler.extractItem(slot, amount, false);
+				if (!extracted.isEmpty()) {
+					this.pickupSlot = slot;
+					return extracted;
+				}
+			}
+		}
+		return ItemStack.EMPTY;
+	}
+
 	@Override
 	public TaskType getRatTaskType() {
 		return TaskType.PICKUP;
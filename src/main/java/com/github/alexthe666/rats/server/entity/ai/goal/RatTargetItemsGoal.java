@@ -13,7 +13,6 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -37,26 +36,18 @@ public class RatTargetItemsGoal extends Goal {
 
 		if (this.checkIfRatCanHold()) {
 			//sort through items we can grab, get the closest one
+			ItemStack held = this.rat.getItemInHand(InteractionHand.MAIN_HAND);
+			boolean platter = RatUpgradeUtils.hasUpgrade(this.rat, RatsItemRegistry.RAT_UPGRADE_PLATTER.get());
 			List<ItemEntity> items = this.rat.level().getEntitiesOfClass(ItemEntity.class, this.getTargetableArea(), item ->
 					(item.onGround() || item.isInWater()) &&
 							this.rat.shouldCollectItem(item.getItem()) &&
-							this.rat.canRatPickupItem(item.getItem()));
+							this.rat.canRatPickupItem(item.getItem()) &&
+							(held.isEmpty() || !platter || ItemStack.isSameItemSameTags(item.getItem(), held)));
 			if (items.isEmpty()) return false;
 
-			items.sort(Comparator.comparingDouble(this.rat::distanceToSqr));
-
-			for (ItemEntity item : items) {
-				//please, only go after items you can actually reach
-				Path toPath = this.rat.getNavigation().createPath(item, 1);
-				if (toPath != null && toPath.canReach()) {
-					if (!this.rat.getItemInHand(InteractionHand.MAIN_HAND).isEmpty()) {
-						if (RatUpgradeUtils.hasUpgrade(this.rat, RatsItemRegistry.RAT_UPGRADE_PLATTER.get()) && !ItemStack.isSameItemSameTags(item.getItem(), this.rat.getItemInHand(InteractionHand.MAIN_HAND)))
-							continue;
-					}
-					this.targetItem = item;
-					return true;
-				}
-			}
+			//please, only go after items you can actually reach
+			this.targetItem = this.rat.getItemFinder().find(items);
+			return this.targetItem != null;
 		}
 		return false;
 	}
@@ -87,7 +78,12 @@ public class RatTargetItemsGoal extends Goal {
 	@Override
 	public void start() {
 		if (this.targetItem != null) {
-			this.rat.getNavigation().moveTo(this.targetItem, 1.25D);
+			Path path = this.rat.getItemFinder().takePath(this.targetItem);
+			if (path != null) {
+				this.rat.getNavigation().moveTo(path, 1.25D);
+			} else {
+				this.rat.getNavigation().moveTo(this.targetItem, 1.25D);
+			}
 		}
 	}
 
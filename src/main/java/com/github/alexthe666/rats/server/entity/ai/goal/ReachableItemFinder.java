@@ -0,0 +1,96 @@
+package com.github.alexthe666.rats.server.entity.ai.goal;
+
+import com.github.alexthe666.rats.server.entity.rat.TamedRat;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds an item a rat can actually walk to without pathing to every item around it.
+ * Candidates are ranked by line of sight and distance, only the first few get a path built to them,
+ * and the verdict is remembered for {@link #VERDICT_TICKS} ticks so goals can keep checking every tick for free.
+ * Each rat has one of these shared between its goals, so the goal moving to the item can reuse the path built while looking for it.
+ */
+public class ReachableItemFinder {
+
+	private static final int VERDICT_TICKS = 10;
+	private static final int MAX_SIGHT_CHECKS = 8;
+	private static final int MAX_PATH_ATTEMPTS = 3;
+
+	private final TamedRat rat;
+	//entity ids of items we couldn't path to, mapped to the game time that verdict expires
+	private final Int2LongMap unreachable = new Int2LongOpenHashMap();
+	private int reachableId = -1;
+	private long reachableUntil;
+	@Nullable
+	private Path reachablePath;
+
+	public ReachableItemFinder(TamedRat rat) {
+		this.rat = rat;
+	}
+
+	/**
+	 * @return a reachable item out of the given candidates, or null if none of the best few remaining candidates turned out to be reachable.
+	 * Unreachable candidates are skipped on later calls, so repeated calls work their way through the rest.
+	 */
+	@Nullable
+	public ItemEntity find(List<ItemEntity> items) {
+		long gameTime = this.rat.level().getGameTime();
+		for (ObjectIterator<Int2LongMap.Entry> it = this.unreachable.int2LongEntrySet().iterator(); it.hasNext(); ) {
+			if (it.next().getLongValue() <= gameTime) {
+				it.remove();
+			}
+		}
+
+		items.sort(Comparator.comparingDouble(this.rat::distanceToSqr));
+		List<ItemEntity> candidates = new ArrayList<>();
+		ItemEntity inSight = null;
+		int sightChecks = 0;
+		for (ItemEntity item : items) {
+			if (item.getId() == this.reachableId && this.reachableUntil > gameTime) {
+				return item;
+			}
+			if (this.unreachable.containsKey(item.getId())) continue;
+			//items in plain sight are far more likely to be reachable than ones behind walls, so try those first
+			if (inSight == null && sightChecks++ < MAX_SIGHT_CHECKS && this.rat.hasLineOfSight(item)) {
+				inSight = item;
+			} else {
+				candidates.add(item);
+			}
+		}
+		if (inSight != null) {
+			candidates.add(0, inSight);
+		}
+
+		for (int i = 0; i < Math.min(candidates.size(), MAX_PATH_ATTEMPTS); i++) {
+			ItemEntity candidate = candidates.get(i);
+			Path path = this.rat.getNavigation().createPath(candidate, 1);
+			if (path != null && path.canReach()) {
+				this.reachableId = candidate.getId();
+				this.reachableUntil = gameTime + VERDICT_TICKS;
+				this.reachablePath = path;
+				return candidate;
+			}
+			this.unreachable.put(candidate.getId(), gameTime + VERDICT_TICKS);
+		}
+		return null;
+	}
+
+	/**
+	 * Hands over the path built when the given item was last found reachable, if it's still fresh.
+	 * Navigation advances whatever path it follows, so each path is only handed out once.
+	 */
+	@Nullable
+	public Path takePath(ItemEntity item) {
+		Path path = this.reachablePath;
+		this.reachablePath = null;
+		return path != null && item.getId() == this.reachableId && this.reachableUntil > this.rat.level().getGameTime() ? path : null;
+	}
+}
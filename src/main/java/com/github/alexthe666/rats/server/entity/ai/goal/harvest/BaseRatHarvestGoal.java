@@ -12,12 +12,10 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
@@ -68,27 +66,14 @@ public abstract class BaseRatHarvestGoal extends Goal implements RatWorkGoal {
 	}
 
 	private boolean anyHoldableItemsAround() {
+		ItemStack held = this.rat.getItemInHand(InteractionHand.MAIN_HAND);
+		boolean platter = RatUpgradeUtils.hasUpgrade(this.rat, RatsItemRegistry.RAT_UPGRADE_PLATTER.get());
 		List<ItemEntity> items = this.rat.level().getEntitiesOfClass(ItemEntity.class, this.getTargetableArea(), item ->
 				(item.onGround() || item.isInWater()) &&
-						this.rat.canRatPickupItem(item.getItem()));
-		if (items.isEmpty()) return false;
-
-		items.sort(Comparator.comparingDouble(this.rat::distanceToSqr));
-
-		List<ItemEntity> revisedList = new ArrayList<>();
-		for (ItemEntity item : items) {
-			//please, only go after items you can actually reach
-			Path toPath = this.rat.getNavigation().createPath(item, 1);
-			if (toPath != null && toPath.canReach()) {
-				if (!this.rat.getItemInHand(InteractionHand.MAIN_HAND).isEmpty()) {
-					if (RatUpgradeUtils.hasUpgrade(this.rat, RatsItemRegistry.RAT_UPGRADE_PLATTER.get()) && !ItemStack.isSameItemSameTags(item.getItem(), this.rat.getItemInHand(InteractionHand.MAIN_HAND)))
-						continue;
-				}
-				revisedList.add(item);
-			}
-		}
-
-		return !revisedList.isEmpty();
+						this.rat.canRatPickupItem(item.getItem()) &&
+						(held.isEmpty() || !platter || ItemStack.isSameItemSameTags(item.getItem(), held)));
+		//please, only go after items you can actually reach
+		return !items.isEmpty() && this.rat.getItemFinder().find(items) != null;
 	}
 
 	protected AABB getTargetableArea() {
@@ -1,6 +1,7 @@
 package com.github.alexthe666.rats.server.entity.ai.goal.harvest;
 
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -128,7 +129,10 @@ public class RatBottlerGoal extends BaseRatHarvestGoal {
 	private void resetTarget() {
 		List<BlockPos> allBlocks = new ArrayList<>();
 		int RADIUS = this.rat.getRadius();
-		for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
+		BlockInterestIndex index = BlockInterestIndex.get(this.rat.level());
+		List<BlockPos> candidates = index.find(BlockInterestIndex.Interest.BEEHIVE, this.rat.getSearchCenter(), RADIUS);
+		candidates.addAll(index.find(BlockInterestIndex.Interest.WATER_CAULDRON, this.rat.getSearchCenter(), RADIUS));
+		for (BlockPos pos : candidates) {
 			BlockState state = this.rat.level().getBlockState(pos);
 			if (state.getBlock() instanceof BeehiveBlock && state.getValue(BeehiveBlock.HONEY_LEVEL) == 5) {
 				allBlocks.add(pos);
@@ -2,6 +2,7 @@ package com.github.alexthe666.rats.server.entity.ai.goal.harvest;
 
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
 import com.github.alexthe666.rats.server.misc.RatUtils;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -106,7 +107,7 @@ public class RatFarmGoal extends BaseRatHarvestGoal {
 		int RADIUS = this.rat.getRadius();
 		if (this.holdingBonemeal()) {
 			List<BlockPos> allBlocks = new ArrayList<>();
-			for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
+			for (BlockPos pos : BlockInterestIndex.get(this.rat.level()).find(BlockInterestIndex.Interest.GROWABLE, this.rat.getSearchCenter(), RADIUS)) {
 				if (this.canPlantBeBonemealed(pos, this.rat.level().getBlockState(pos)) && !RatUtils.isBlockProtected(this.rat.level(), pos, this.rat)) {
 					allBlocks.add(pos);
 				}
@@ -117,7 +118,7 @@ public class RatFarmGoal extends BaseRatHarvestGoal {
 			}
 		} else if (this.holdingSeeds()) {
 			List<BlockPos> allBlocks = new ArrayList<>();
-			for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
+			for (BlockPos pos : BlockInterestIndex.get(this.rat.level()).find(BlockInterestIndex.Interest.FARMLAND, this.rat.getSearchCenter(), RADIUS)) {
 				if (this.rat.level().getBlockState(pos).getBlock().isFertile(this.rat.level().getBlockState(pos), this.rat.level(), pos) && this.rat.level().isEmptyBlock(pos.above()) && !RatUtils.isBlockProtected(this.rat.level(), pos, this.rat)) {
 					allBlocks.add(pos);
 				}
@@ -1,6 +1,7 @@
 package com.github.alexthe666.rats.server.entity.ai.goal.harvest;
 
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -25,7 +26,9 @@ import net.minecraftforge.event.entity.player.ItemFishedEvent;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class RatFishermanGoal extends BaseRatHarvestGoal {
 	private final TamedRat rat;
@@ -105,9 +108,15 @@ public class RatFishermanGoal extends BaseRatHarvestGoal {
 	private void resetTarget() {
 		List<BlockPos> allBlocks = new ArrayList<>();
 		int RADIUS = this.rat.getRadius();
-		for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
-			if (this.isShore(pos, this.rat.level())) {
-				allBlocks.add(pos);
+		BlockPos center = this.rat.getSearchCenter();
+		Set<BlockPos> checked = new HashSet<>();
+		//shores are always right next to water, so only look around the water we know about
+		for (BlockPos water : BlockInterestIndex.get(this.rat.level()).find(BlockInterestIndex.Interest.WATER, center, RADIUS + 1)) {
+			for (Direction facing : Direction.Plane.HORIZONTAL) {
+				BlockPos pos = water.relative(facing);
+				if (Math.abs(pos.getX() - center.getX()) <= RADIUS && Math.abs(pos.getY() - center.getY()) <= RADIUS && Math.abs(pos.getZ() - center.getZ()) <= RADIUS && checked.add(pos) && this.isShore(pos, this.rat.level())) {
+					allBlocks.add(pos);
+				}
 			}
 		}
 		if (!allBlocks.isEmpty()) {
@@ -2,6 +2,7 @@ package com.github.alexthe666.rats.server.entity.ai.goal.harvest;
 
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
 import com.github.alexthe666.rats.server.misc.RatUtils;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.world.InteractionHand;
@@ -27,7 +28,7 @@ public class RatGardenerGoal extends BaseRatHarvestGoal {
 	private void resetTarget() {
 		List<BlockPos> allBlocks = new ArrayList<>();
 		int RADIUS = this.rat.getRadius();
-		for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
+		for (BlockPos pos : BlockInterestIndex.get(this.rat.level()).find(BlockInterestIndex.Interest.GARDEN, this.rat.getSearchCenter(), RADIUS)) {
 			BlockState state = this.rat.level().getBlockState(pos);
 			if (RatUtils.canRatBreakBlock(this.rat.level(), pos, this.rat)) {
 				if (state.canBeReplaced() || state.is(BlockTags.FLOWERS)) {
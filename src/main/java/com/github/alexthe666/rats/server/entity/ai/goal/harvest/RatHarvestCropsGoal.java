@@ -5,6 +5,7 @@ import com.github.alexthe666.rats.registry.RatsItemRegistry;
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
 import com.github.alexthe666.rats.server.misc.RatUpgradeUtils;
 import com.github.alexthe666.rats.server.misc.RatUtils;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.world.InteractionHand;
@@ -41,7 +42,7 @@ public class RatHarvestCropsGoal extends BaseRatHarvestGoal {
 	private void resetTarget() {
 		List<BlockPos> allBlocks = new ArrayList<>();
 		int RADIUS = this.rat.getRadius();
-		for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
+		for (BlockPos pos : BlockInterestIndex.get(this.rat.level()).find(BlockInterestIndex.Interest.CROP, this.rat.getSearchCenter(), RADIUS)) {
 			BlockState state = this.rat.level().getBlockState(pos);
 			if (state.is(BlockTags.CROPS)) {
 				if (state.getBlock() instanceof CropBlock crop && !crop.isMaxAge(state)) continue;
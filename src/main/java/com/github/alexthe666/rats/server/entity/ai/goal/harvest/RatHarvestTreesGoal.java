@@ -5,7 +5,7 @@ import com.github.alexthe666.rats.server.entity.rat.TamedRat;
 import com.github.alexthe666.rats.server.misc.RatTreeUtils;
 import com.github.alexthe666.rats.server.misc.RatUpgradeUtils;
 import com.github.alexthe666.rats.server.misc.RatUtils;
-import com.mojang.datafixers.util.Pair;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -14,7 +14,7 @@ import net.minecraft.tags.BlockTags;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
@@ -22,7 +22,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 public class RatHarvestTreesGoal extends BaseRatHarvestGoal {
 	private final TamedRat rat;
@@ -51,7 +50,9 @@ public class RatHarvestTreesGoal extends BaseRatHarvestGoal {
 	private void resetTarget() {
 		Level level = this.rat.level();
 		int RADIUS = this.rat.getRadius();
-		for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
+		List<BlockPos> logs = BlockInterestIndex.get(level).find(BlockInterestIndex.Interest.LOG, this.rat.getSearchCenter(), RADIUS);
+		logs.sort(this.getTargetSorter());
+		for (BlockPos pos : logs) {
 			if (RatTreeUtils.isTreeLog(level.getBlockState(pos)) && level.getBlockState(pos.below()).is(BlockTags.DIRT) && (this.treeSize = RatTreeUtils.calculateLogAmount(level, pos)) > 0) {
 				Path path = this.rat.getNavigation().createPath(this.getOffsetToAirPos(pos), 1);
 				if (path != null && RatUtils.canRatBreakBlock(this.rat.level(), pos, this.rat)) {
@@ -141,87 +142,32 @@ public class RatHarvestTreesGoal extends BaseRatHarvestGoal {
 	private void fellTree() {
 		Level level = this.rat.level();
 		BlockPos base = this.getTargetBlock();
-		BlockState baseBlock = level.getBlockState(base);
+		//grab this before breaking anything, since breaking the logs clears the cached analysis
+		int highestLeaf = RatTreeUtils.analyzeTree(level, base).highestLeaf();
 		List<BlockPos> logsToKill = RatTreeUtils.getLogsToBreak(level, base, new ArrayList<>(), level.getBlockState(base));
+		List<BlockPos> brokenLogs = new ArrayList<>();
 		for (BlockPos logpos : logsToKill) {
 			if (RatUtils.canRatBreakBlock(this.rat.level(), logpos, this.rat)) {
 				level.destroyBlock(logpos, true);
+				brokenLogs.add(logpos);
 			}
 		}
-		this.handleLeafRemoval(level, base, baseBlock, logsToKill, this.treeSize);
+		//only sweep for leaves once every log is down, otherwise leaves still attached to the rest of the tree would be counted as supported
+		this.handleLeafRemoval(level, base, brokenLogs, this.treeSize, highestLeaf);
 	}
 
-	private void handleLeafRemoval(Level level, BlockPos base, BlockState baseBlock, List<BlockPos> logstobreak, int logCount) {
-		List<BlockPos> logs = new ArrayList<>();
-		List<BlockPos> leaves = new ArrayList<>();
-
-		BlockPos highestlog = base.immutable();
+	private void handleLeafRemoval(Level level, BlockPos base, List<BlockPos> logstobreak, int logCount, int highestLeaf) {
+		BlockPos highestlog = base;
 		for (BlockPos logpos : logstobreak) {
 			if (logpos.getY() > highestlog.getY()) {
-				highestlog = logpos.immutable();
-			}
-
-			for (BlockPos next : BlockPos.betweenClosed(base.getX() - 8, base.getY(), base.getZ() - 8, base.getX() + 8, RatTreeUtils.highestleaf.get(base), base.getZ() + 8)) {
-				BlockState nextblock = level.getBlockState(next);
-				if (RatTreeUtils.isTreeLog(nextblock)) {
-					if (nextblock.is(baseBlock.getBlock()) || RatTreeUtils.areEqualLogTypes(baseBlock, nextblock)) {
-						logs.add(next.immutable());
-					}
-				}
-			}
-
-			Pair<Integer, Integer> hv = RatTreeUtils.getHorizontalAndVerticalValue(logCount);
-			int h = hv.getFirst();
-
-			CopyOnWriteArrayList<BlockPos> leftoverleaves = new CopyOnWriteArrayList<>();
-
-			BlockState leafblock = level.getBlockState(highestlog.above());
-			for (BlockPos next : BlockPos.betweenClosed(base.getX() - h, base.getY(), base.getZ() - h, base.getX() + h, RatTreeUtils.highestleaf.get(base), base.getZ() + h)) {
-				BlockState nextblock = level.getBlockState(next);
-
-				if (!leafblock.is(nextblock.getBlock())) {
-					continue;
-				}
-
-				if (RatTreeUtils.isTreeLeaf(nextblock)) {
-					boolean logclose = false;
-					for (BlockPos log : logs) {
-						if (log.closerThan(next, 3)) {
-							logclose = true;
-							break;
-						}
-					}
-
-					if (!logclose) {
-						leaves.add(next.immutable());
-					} else {
-						leftoverleaves.add(next.immutable());
-					}
-				}
-			}
-
-			for (BlockPos leftoverleaf : leftoverleaves) {
-				if (leftoverleaves.isEmpty()) {
-					break;
-				}
-
-				Pair<Boolean, List<BlockPos>> connectedpair = RatTreeUtils.isConnectedToLogs(level, leftoverleaf);
-				if (connectedpair.getFirst()) {
-					for (BlockPos connectedpos : connectedpair.getSecond()) {
-						leftoverleaves.remove(connectedpos);
-					}
-				} else {
-					for (BlockPos connectedpos : connectedpair.getSecond()) {
-						if (!leaves.contains(connectedpos)) {
-							leaves.add(connectedpos.immutable());
-						}
-
-						leftoverleaves.remove(connectedpos);
-					}
-				}
+				highestlog = logpos;
 			}
 		}
 
+		int h = RatTreeUtils.getHorizontalAndVerticalValue(logCount).getFirst();
+		BoundingBox bounds = new BoundingBox(base.getX() - h, base.getY(), base.getZ() - h, base.getX() + h, Math.max(highestLeaf, highestlog.getY() + 1), base.getZ() + h);
+		List<BlockPos> leaves = RatTreeUtils.getLeavesToDecay(level, logstobreak, level.getBlockState(highestlog.above()), bounds);
+
 		for (BlockPos leafPos : leaves) {
 			if (this.sapling == null && this.rat.level().getBlockState(leafPos).is(BlockTags.LEAVES)) {
 				this.sapling = RatTreeUtils.getSaplingFromLeaves((ServerLevel) this.rat.level(), this.rat.level().getBlockState(leafPos).getBlock());
@@ -230,7 +176,5 @@ public class RatHarvestTreesGoal extends BaseRatHarvestGoal {
 				level.destroyBlock(leafPos, true);
 			}
 		}
-
-		RatTreeUtils.highestleaf.remove(base);
 	}
 }
@@ -1,8 +1,6 @@
 package com.github.alexthe666.rats.server.entity.ai.goal.harvest;
 
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
-import com.github.alexthe666.rats.server.message.RatsNetworkHandler;
-import com.github.alexthe666.rats.server.message.UpdateRatFluidPacket;
 import com.github.alexthe666.rats.server.misc.RatUtils;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.entity.LivingEntity;
@@ -14,7 +12,6 @@ import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.ForgeMod;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.wrappers.FluidBucketWrapper;
-import net.minecraftforge.network.PacketDistributor;
 
 import java.util.EnumSet;
 import java.util.List;
@@ -61,7 +58,7 @@ public class RatMilkCowGoal extends BaseRatHarvestGoal {
 					if (this.rat.transportingFluid.isEmpty() || this.rat.transportingFluid.getAmount() < this.rat.getMBTransferRate()) {
 						this.rat.transportingFluid = milkFluid.copy();
 						if (!this.rat.level().isClientSide()) {
-							RatsNetworkHandler.CHANNEL.send(PacketDistributor.ALL.noArg(), new UpdateRatFluidPacket(this.rat.getId(), this.rat.transportingFluid));
+							this.rat.syncTransportingFluid();
 						}
 						this.rat.playSound(SoundEvents.COW_MILK, 1, 1);
 						this.rat.gameEvent(GameEvent.ENTITY_INTERACT);
@@ -19,13 +19,10 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -62,23 +59,10 @@ public class RatQuarryGoal extends BaseRatHarvestGoal {
 	}
 
 	private void resetTarget() {
-		List<BlockPos> allBlocks = new ArrayList<>();
 		GlobalPos quarryPos = this.rat.getDepositPos().orElse(null);
 		if (quarryPos != null && this.rat.level().getBlockEntity(quarryPos.pos()) instanceof RatQuarryBlockEntity quarry) {
-			int RADIUS = quarry.getRadius();
-			for (BlockPos pos : BlockPos.betweenClosedStream(quarryPos.pos().offset(-RADIUS, -1, -RADIUS), new BlockPos(quarryPos.pos().getX() + RADIUS, this.rat.level().getMinBuildHeight(), quarryPos.pos().getZ() + RADIUS)).map(BlockPos::immutable).toList()) {
-				if ((!this.rat.level().isEmptyBlock(pos) && this.doesListContainBlock(this.rat.level(), pos))) {
-					if (this.canMineBlock(pos)) {
-						allBlocks.add(pos);
-					}
-				}
-			}
-			if (!allBlocks.isEmpty()) {
-				allBlocks.sort(new QuarryBlockSorter(this.rat));
-				this.setTargetBlock(allBlocks.get(allBlocks.size() - 1));
-			}
+			this.setTargetBlock(quarry.findNextMiningTarget(this.rat.level(), this::canMineBlock));
 		}
-
 	}
 
 	private boolean doesListContainBlock(Level level, BlockPos pos) {
@@ -187,22 +171,4 @@ public class RatQuarryGoal extends BaseRatHarvestGoal {
 		BlockState state = this.rat.level().getBlockState(rayPos);
 		return !state.is(RatsBlockTags.QUARRY_IGNORABLES) && this.doesListContainBlock(this.rat.level(), rayPos) && RatUtils.canRatBreakBlock(this.rat.level(), rayPos, this.rat);
 	}
-
-	public record QuarryBlockSorter(TamedRat rat) implements Comparator<BlockPos> {
-
-		@Override
-		public int compare(BlockPos pos1, BlockPos pos2) {
-			FluidState state1 = this.rat().level().getFluidState(pos2);
-			FluidState state2 = this.rat().level().getFluidState(pos1);
-			double distance1 = pos2.getY();
-			double distance2 = pos1.getY();
-			if (state1.isSource() && !state2.isSource()) {
-				return 1;
-			}
-			if (state2.isSource() && !state1.isSource()) {
-				return -1;
-			}
-			return Double.compare(distance2, distance1);
-		}
-	}
 }
@@ -1,6 +1,7 @@
 package com.github.alexthe666.rats.server.entity.ai.goal.harvest;
 
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -145,7 +146,7 @@ public class RatUseShearsGoal extends BaseRatHarvestGoal {
 
 		List<BlockPos> allBlocks = new ArrayList<>();
 		int RADIUS = this.rat.getRadius();
-		for (BlockPos pos : BlockPos.betweenClosedStream(this.rat.getSearchCenter().offset(-RADIUS, -RADIUS, -RADIUS), this.rat.getSearchCenter().offset(RADIUS, RADIUS, RADIUS)).map(BlockPos::immutable).toList()) {
+		for (BlockPos pos : BlockInterestIndex.get(this.rat.level()).find(BlockInterestIndex.Interest.BEEHIVE, this.rat.getSearchCenter(), RADIUS)) {
 			if ((this.rat.level().getBlockState(pos).getBlock() instanceof BeehiveBlock && this.rat.level().getBlockState(pos).getValue(BeehiveBlock.HONEY_LEVEL) == 5)) {
 				allBlocks.add(pos);
 			}
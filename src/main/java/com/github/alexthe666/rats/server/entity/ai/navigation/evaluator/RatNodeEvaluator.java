@@ -4,7 +4,9 @@ import com.github.alexthe666.rats.server.block.*;
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
 import com.github.alexthe666.rats.server.misc.RatUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.BaseRailBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.SlabBlock;
@@ -13,10 +15,18 @@ import net.minecraft.world.level.pathfinder.WalkNodeEvaluator;
 
 public class RatNodeEvaluator extends WalkNodeEvaluator {
 
+	private boolean inCage;
+
+	@Override
+	public void prepare(PathNavigationRegion region, Mob mob) {
+		super.prepare(region, mob);
+		this.inCage = mob instanceof TamedRat rat && rat.isInCage();
+	}
+
 	@Override
 	protected BlockPathTypes evaluateBlockPathType(BlockGetter getter, BlockPos pos, BlockPathTypes types) {
 		Block block = getter.getBlockState(pos).getBlock();
-		if (this.mob instanceof TamedRat rat) {
+		if (this.mob instanceof TamedRat) {
 			if (block instanceof RatHoleBlock || block instanceof RatTrapBlock || block instanceof RatCageBlock || RatUtils.isOpenRatTube(getter, pos)) {
 				types = BlockPathTypes.WALKABLE;
 			}
@@ -39,7 +49,7 @@ public class RatNodeEvaluator extends WalkNodeEvaluator {
 				types = BlockPathTypes.UNPASSABLE_RAIL;
 			}
 
-			if (rat.isInCage()) {
+			if (this.inCage) {
 				if (block instanceof RatCageBlock || block instanceof RatTubeBlock) {
 					types = BlockPathTypes.WALKABLE;
 				} else {
@@ -0,0 +1,58 @@
+package com.github.alexthe666.rats.server.entity.ai.navigation.navigation;
+
+import com.github.alexthe666.rats.server.world.RatTubeNetwork;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Routes rats through the junctions of the {@link RatTubeNetwork} they're in, falling back to regular node evaluation
+ * whenever the network can't take them all the way to their target.
+ */
+public class RatTubeNavigation extends RatNavigation {
+
+	public RatTubeNavigation(Mob mob, Level level) {
+		super(mob, level);
+	}
+
+	@Nullable
+	@Override
+	public Path createPath(BlockPos pos, int accuracy) {
+		return this.preferTubeRoute(pos, () -> super.createPath(pos, accuracy));
+	}
+
+	@Nullable
+	@Override
+	public Path createPath(Entity entity, int accuracy) {
+		return this.preferTubeRoute(entity.blockPosition(), () -> super.createPath(entity, accuracy));
+	}
+
+	/**
+	 * Uses the tube route when it leads all the way to the target. Routes that stop at an exit only get used when regular pathfinding
+	 * can't reach the target either, so goals asking whether something is reachable still get a real answer.
+	 */
+	@Nullable
+	private Path preferTubeRoute(BlockPos target, Supplier<Path> fallback) {
+		Path route = this.createTubeRoute(target);
+		if (route != null && route.canReach()) {
+			return route;
+		}
+		Path path = fallback.get();
+		return route != null && (path == null || !path.canReach()) ? route : path;
+	}
+
+	@Nullable
+	private Path createTubeRoute(BlockPos target) {
+		if (this.level.isClientSide()) return null;
+		//goals call moveTo every tick, so keep following the current route as long as it still leads to the same place
+		if (this.path != null && !this.path.isDone() && this.path.getTarget().equals(target)) {
+			return this.path;
+		}
+		return RatTubeNetwork.get(this.level).findRoute(this.mob.blockPosition(), target);
+	}
+}
@@ -9,6 +9,7 @@ import com.github.alexthe666.rats.server.entity.RatSummoner;
 import com.github.alexthe666.rats.server.entity.ai.goal.PiperStrifeGoal;
 import com.github.alexthe666.rats.server.entity.rat.AbstractRat;
 import com.github.alexthe666.rats.server.entity.rat.Rat;
+import com.github.alexthe666.rats.server.world.SummonerRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
@@ -39,7 +40,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.ServerLevelAccessor;
-import net.minecraft.world.phys.AABB;
 import net.minecraftforge.event.ForgeEventFactory;
 import org.jetbrains.annotations.Nullable;
 
@@ -103,18 +103,31 @@ public class PiedPiper extends Raider implements RatSummoner {
 		return false;
 	}
 
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).addSummoner(this);
+		}
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).removeSummoner(this);
+		}
+	}
+
 	@Override
 	public void remove(RemovalReason reason) {
-		double dist = 20F;
-		if (reason.shouldDestroy()) {
-			for (Rat rat : this.level().getEntitiesOfClass(Rat.class, new AABB(this.getX() - dist, this.getY() - dist, this.getZ() - dist, this.getX() + dist, this.getY() + dist, this.getZ() + dist))) {
-				if (rat.isOwnedBy(this)) {
-					rat.setTame(false);
-					rat.setOwnerUUID(null);
-					rat.setFleePos(rat.blockPosition());
-					rat.setTarget(null);
-					rat.setLastHurtByMob(null);
-				}
+		if (reason.shouldDestroy() && !this.level().isClientSide()) {
+			for (Rat rat : SummonerRegistry.get(this.level()).getMinions(this.getUUID(), Rat.class)) {
+				rat.setTame(false);
+				rat.setOwnerUUID(null);
+				rat.setFleePos(rat.blockPosition());
+				rat.setTarget(null);
+				rat.setLastHurtByMob(null);
 			}
 		}
 		super.remove(reason);
@@ -6,6 +6,7 @@ import com.github.alexthe666.rats.registry.RatsEffectRegistry;
 import com.github.alexthe666.rats.registry.RatsParticleRegistry;
 import com.github.alexthe666.rats.registry.RatsSoundRegistry;
 import com.github.alexthe666.rats.server.entity.monster.boss.BlackDeath;
+import com.github.alexthe666.rats.server.world.SummonerRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
@@ -175,6 +176,22 @@ public class PlagueCloud extends Monster {
 		}
 	}
 
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).updateMinion(this, this.getOwnerId());
+		}
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).removeMinion(this);
+		}
+	}
+
 	@Nullable
 	public UUID getOwnerId() {
 		return this.getEntityData().get(OWNER_UNIQUE_ID).orElse(null);
@@ -182,12 +199,18 @@ public class PlagueCloud extends Monster {
 
 	public void setOwnerId(@Nullable UUID uuid) {
 		this.getEntityData().set(OWNER_UNIQUE_ID, Optional.ofNullable(uuid));
+		if (this.isAddedToWorld() && !this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).updateMinion(this, uuid);
+		}
 	}
 
 	@Nullable
 	public LivingEntity getOwner() {
 		try {
 			UUID uuid = this.getOwnerId();
+			if (uuid != null && !this.level().isClientSide() && SummonerRegistry.get(this.level()).getSummoner(uuid) instanceof LivingEntity summoner) {
+				return summoner;
+			}
 			LivingEntity player = uuid == null ? null : this.level().getPlayerByUUID(uuid);
 			if (player != null) {
 				return player;
@@ -10,6 +10,7 @@ import com.github.alexthe666.rats.server.entity.ai.goal.BlackDeathSummonCloudGoa
 import com.github.alexthe666.rats.server.entity.ai.goal.BlackDeathSummonRatGoal;
 import com.github.alexthe666.rats.server.entity.ai.goal.BlackDeathSummoningGoal;
 import com.github.alexthe666.rats.server.entity.rat.Rat;
+import com.github.alexthe666.rats.server.world.SummonerRegistry;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -38,7 +39,6 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.ServerLevelAccessor;
-import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Predicate;
@@ -142,18 +142,31 @@ public class BlackDeath extends Monster implements RatSummoner {
 		return false;
 	}
 
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).addSummoner(this);
+		}
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).removeSummoner(this);
+		}
+	}
+
 	@Override
 	public void remove(RemovalReason reason) {
-		if (!this.isAlive()) {
-			double dist = 20F;
-			for (Rat rat : this.level().getEntitiesOfClass(Rat.class, new AABB(this.getX() - dist, this.getY() - dist, this.getZ() - dist, this.getX() + dist, this.getY() + dist, this.getZ() + dist))) {
-				if (rat.isOwnedBy(this)) {
-					rat.setTame(false);
-					rat.setOwnerUUID(null);
-					rat.setFleePos(rat.blockPosition());
-					rat.setTarget(null);
-					rat.setLastHurtByMob(null);
-				}
+		if (!this.isAlive() && !this.level().isClientSide()) {
+			for (Rat rat : SummonerRegistry.get(this.level()).getMinions(this.getUUID(), Rat.class)) {
+				rat.setTame(false);
+				rat.setOwnerUUID(null);
+				rat.setFleePos(rat.blockPosition());
+				rat.setTarget(null);
+				rat.setLastHurtByMob(null);
 			}
 		}
 		super.remove(reason);
@@ -6,6 +6,7 @@ import com.github.alexthe666.rats.registry.RatsSoundRegistry;
 import com.github.alexthe666.rats.server.entity.RatSummoner;
 import com.github.alexthe666.rats.server.entity.projectile.RatShot;
 import com.github.alexthe666.rats.server.misc.RatVariant;
+import com.github.alexthe666.rats.server.world.SummonerRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -117,6 +118,22 @@ public class RatKing extends Monster implements RatSummoner {
 		}
 	}
 
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).addSummoner(this);
+		}
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).removeSummoner(this);
+		}
+	}
+
 	@Override
 	public void die(DamageSource source) {
 		if (net.minecraftforge.common.ForgeHooks.onLivingDeath(this, source)) return;
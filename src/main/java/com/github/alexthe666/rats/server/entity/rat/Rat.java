@@ -11,6 +11,7 @@ import com.github.alexthe666.rats.server.entity.ai.goal.WildRatTargetFoodGoal;
 import com.github.alexthe666.rats.server.entity.monster.boss.RatKing;
 import com.github.alexthe666.rats.server.misc.RatUtils;
 import com.github.alexthe666.rats.server.misc.RatsDateFetcher;
+import com.github.alexthe666.rats.server.world.SummonerRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
@@ -46,6 +47,7 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.event.ForgeEventFactory;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.util.UUID;
 import java.util.function.Predicate;
 
@@ -57,6 +59,7 @@ public class Rat extends DiggingRat {
 	private int ratKingTransformTicks = 0;
 	public int wildTrust = 0;
 	public int cheeseFeedings = 0;
+	private WeakReference<LivingEntity> cachedOwner = new WeakReference<>(null);
 	private static final Predicate<Player> AVOIDED_PLAYERS = entity -> !entity.isDiscrete() && !entity.getItemBySlot(EquipmentSlot.HEAD).is(RatsItemRegistry.PIPER_HAT.get()) && EntitySelector.NO_CREATIVE_OR_SPECTATOR.test(entity);
 
 	public Rat(EntityType<? extends Rat> rat, Level level) {
@@ -130,6 +133,30 @@ public class Rat extends DiggingRat {
 		this.setToga(compound.getBoolean("Toga"));
 	}
 
+	@Override
+	public void setOwnerUUID(@Nullable UUID uuid) {
+		super.setOwnerUUID(uuid);
+		if (this.isAddedToWorld() && !this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).updateMinion(this, uuid);
+		}
+	}
+
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).updateMinion(this, this.getOwnerUUID());
+		}
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!this.level().isClientSide()) {
+			SummonerRegistry.get(this.level()).removeMinion(this);
+		}
+	}
+
 	@Override
 	public void aiStep() {
 		super.aiStep();
@@ -172,9 +199,16 @@ public class Rat extends DiggingRat {
 	public LivingEntity getOwner() {
 		try {
 			UUID uuid = this.getOwnerUUID();
+			if (uuid == null) return null;
+			//the removed check throws out owners that died or unloaded, and the level check covers players changing dimension, since they keep the same object and get unremoved
+			LivingEntity cached = this.cachedOwner.get();
+			if (cached != null && !cached.isRemoved() && cached.level() == this.level() && uuid.equals(cached.getUUID())) {
+				return cached;
+			}
 			if (this.level() instanceof ServerLevel server) {
 				Entity entity = server.getEntity(uuid);
 				if (entity instanceof LivingEntity living) {
+					this.cachedOwner = new WeakReference<>(living);
 					return living;
 				}
 			}
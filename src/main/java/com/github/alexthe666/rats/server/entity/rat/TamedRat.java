@@ -8,6 +8,7 @@ import com.github.alexthe666.rats.data.tags.RatsItemTags;
 import com.github.alexthe666.rats.registry.*;
 import com.github.alexthe666.rats.server.block.RatCageBlock;
 import com.github.alexthe666.rats.server.block.RatTubeBlock;
+import com.github.alexthe666.rats.server.block.entity.RatCraftingTableBlockEntity;
 import com.github.alexthe666.rats.server.entity.RatMount;
 import com.github.alexthe666.rats.server.entity.ai.goal.*;
 import com.github.alexthe666.rats.server.entity.ai.goal.harvest.RatHarvestCropsGoal;
@@ -15,6 +16,7 @@ import com.github.alexthe666.rats.server.entity.ai.navigation.control.*;
 import com.github.alexthe666.rats.server.entity.ai.navigation.navigation.EtherealRatNavigation;
 import com.github.alexthe666.rats.server.entity.ai.navigation.navigation.RatFlightNavigation;
 import com.github.alexthe666.rats.server.entity.ai.navigation.navigation.RatNavigation;
+import com.github.alexthe666.rats.server.entity.ai.navigation.navigation.RatTubeNavigation;
 import com.github.alexthe666.rats.server.entity.mount.RatBiplaneMount;
 import com.github.alexthe666.rats.server.entity.mount.RatMountBase;
 import com.github.alexthe666.rats.server.items.OreRatNuggetItem;
@@ -25,10 +27,14 @@ import com.github.alexthe666.rats.server.items.upgrades.interfaces.*;
 import com.github.alexthe666.rats.server.message.ManageRatStaffPacket;
 import com.github.alexthe666.rats.server.message.RatsNetworkHandler;
 import com.github.alexthe666.rats.server.message.SetDancingRatPacket;
+import com.github.alexthe666.rats.server.message.UpdateRatFluidPacket;
+import com.github.alexthe666.rats.server.misc.RatRecipeCache;
+import com.github.alexthe666.rats.server.misc.RatUpgradeIndex;
 import com.github.alexthe666.rats.server.misc.RatUpgradeUtils;
 import com.github.alexthe666.rats.server.misc.RatUtils;
 import com.github.alexthe666.rats.server.misc.RatVariant;
 import com.github.alexthe666.rats.server.misc.RatsLangConstants;
+import com.github.alexthe666.rats.server.world.VoodooRatRegistry;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
@@ -38,7 +44,6 @@ import net.minecraft.core.GlobalPos;
 import net.minecraft.core.particles.ItemParticleOption;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -52,7 +57,6 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.Container;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
-import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageTypes;
 import net.minecraft.world.effect.MobEffectInstance;
@@ -62,12 +66,14 @@ import net.minecraft.world.entity.ai.attributes.Attribute;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.ai.control.MoveControl;
 import net.minecraft.world.entity.ai.control.SmoothSwimmingMoveControl;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
 import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
 import net.minecraft.world.entity.ai.goal.SitWhenOrderedToGoal;
 import net.minecraft.world.entity.ai.navigation.AmphibiousPathNavigation;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.AbstractArrow;
 import net.minecraft.world.item.DyeItem;
@@ -102,8 +108,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class TamedRat extends InventoryRat {
@@ -131,6 +137,7 @@ public class TamedRat extends InventoryRat {
 	public int breedCooldown = 0;
 	public BlockPos jukeboxPos;
 	public FluidStack transportingFluid = FluidStack.EMPTY;
+	private boolean transportingFluidChanged;
 	private Goal harvestGoal;
 	private Goal pickupGoal;
 	private Goal depositGoal;
@@ -145,6 +152,8 @@ public class TamedRat extends InventoryRat {
 	   5 = cage navigator
 	 */
 	protected int navigatorType;
+	private final MoveControl[] moveControls = new MoveControl[6];
+	private final PathNavigation[] navigations = new PathNavigation[6];
 	public int rangedAttackCooldown = 0;
 	public int visualCooldown = 0;
 	private int poopCooldown = 0;
@@ -153,6 +162,8 @@ public class TamedRat extends InventoryRat {
 	private int updateNavigationCooldown;
 	public boolean isCurrentlyWorking;
 	private final Multimap<Attribute, AttributeModifier> attributeChanges = HashMultimap.create();
+	private RatUpgradeIndex upgradeIndex;
+	private final ReachableItemFinder itemFinder = new ReachableItemFinder(this);
 
 	public TamedRat(EntityType<? extends TamableAnimal> type, Level level) {
 		super(type, level);
@@ -290,31 +301,38 @@ public class TamedRat extends InventoryRat {
 	}
 
 	public void switchNavigator(int type) {
-		if (type == 0) { //tamed
-			this.moveControl = new RatMoveControl(this);
-			this.navigation = new RatNavigation(this, this.level());
-			this.navigatorType = 0;
-		} else if (type == 1) { //flying
-			this.moveControl = new RatFlightMoveControl(this, 1.0F);
-			this.navigation = new RatFlightNavigation(this, this.level());
-			this.navigatorType = 1;
-		} else if (type == 2) { //tube
-			this.moveControl = new RatTubeMoveControl(this);
-			this.navigation = new RatNavigation(this, this.level());
-			this.navigatorType = 2;
-		} else if (type == 3) { //aquatic
-			this.moveControl = new SmoothSwimmingMoveControl(this, 360, 360, 10.0F, 1.0F, true);
-			this.navigation = new AmphibiousPathNavigation(this, this.level());
-			this.navigatorType = 3;
-		} else if (type == 4) { //ethereal
-			this.moveControl = new EtherealRatMoveControl(this);
-			this.navigation = new EtherealRatNavigation(this, this.level());
-			this.navigatorType = 4;
-		} else if (type == 5) { //cage
-			this.moveControl = new RatCageMoveControl(this);
-			this.navigation = new RatNavigation(this, this.level());
-			this.navigatorType = 5;
-		}
+		if (type < 0 || type >= this.navigations.length) return;
+		if (this.navigatorType == type && this.navigation == this.navigations[type]) return;
+		//each navigator type is only created once, the rat swaps between them as it moves around
+		if (this.navigations[type] == null) {
+			this.moveControls[type] = this.createMoveControl(type);
+			this.navigations[type] = this.createNavigator(type);
+		}
+		this.navigation.stop();
+		this.moveControl = this.moveControls[type];
+		this.navigation = this.navigations[type];
+		this.navigatorType = type;
+	}
+
+	private MoveControl createMoveControl(int type) {
+		return switch (type) {
+			case 1 -> new RatFlightMoveControl(this, 1.0F); //flying
+			case 2 -> new RatTubeMoveControl(this); //tube
+			case 3 -> new SmoothSwimmingMoveControl(this, 360, 360, 10.0F, 1.0F, true); //aquatic
+			case 4 -> new EtherealRatMoveControl(this); //ethereal
+			case 5 -> new RatCageMoveControl(this); //cage
+			default -> new RatMoveControl(this); //tamed
+		};
+	}
+
+	private PathNavigation createNavigator(int type) {
+		return switch (type) {
+			case 1 -> new RatFlightNavigation(this, this.level());
+			case 2 -> new RatTubeNavigation(this, this.level());
+			case 3 -> new AmphibiousPathNavigation(this, this.level());
+			case 4 -> new EtherealRatNavigation(this, this.level());
+			default -> new RatNavigation(this, this.level());
+		};
 	}
 
 	@Override
@@ -348,12 +366,14 @@ public class TamedRat extends InventoryRat {
 		return flag;
 	}
 
+	//the feet state is cached, but vanilla drops it at the start of every base tick and whenever the rat changes block,
+	//so a cage or tube placed or broken around a rat is at worst noticed a tick late, which is fine for picking a navigator
 	public boolean isInCage() {
-		return this.level().getBlockState(this.blockPosition()).getBlock() instanceof RatCageBlock;
+		return this.getFeetBlockState().getBlock() instanceof RatCageBlock;
 	}
 
 	public boolean isInTube() {
-		return this.level().getBlockState(this.blockPosition()).getBlock() instanceof RatTubeBlock;
+		return this.getFeetBlockState().getBlock() instanceof RatTubeBlock;
 	}
 
 	@Override
@@ -448,6 +468,10 @@ public class TamedRat extends InventoryRat {
 	@Override
 	public void aiStep() {
 		super.aiStep();
+		if (this.transportingFluidChanged && !this.level().isClientSide()) {
+			this.transportingFluidChanged = false;
+			RatsNetworkHandler.CHANNEL.send(PacketDistributor.TRACKING_ENTITY.with(() -> this), new UpdateRatFluidPacket(this.getId(), this.transportingFluid));
+		}
 		if (this.isBaby() && this.getCommand() != RatCommand.SIT) {
 			this.setCommand(RatCommand.SIT);
 		}
@@ -713,8 +737,7 @@ public class TamedRat extends InventoryRat {
 		ItemStack handCopy = this.getMainHandItem().copy();
 		if (RatUpgradeUtils.hasUpgrade(this, RatsItemRegistry.RAT_UPGRADE_ORE_DOUBLING.get()) && OreDoublingRatUpgradeItem.isProcessable(this.level(), handCopy)) {
 			ItemStack attemptedSmelt = handCopy.copy();
-			Container container = new SimpleContainer(attemptedSmelt);
-			SmeltingRecipe recipe = this.level().getRecipeManager().getRecipeFor(RecipeType.SMELTING, container, this.level()).orElse(null);
+			SmeltingRecipe recipe = RatRecipeCache.getRecipeFor(RecipeType.SMELTING, attemptedSmelt, this.level()).orElse(null);
 			if (recipe != null && !recipe.getResultItem(this.level().registryAccess()).isEmpty()) {
 				attemptedSmelt = recipe.getResultItem(this.level().registryAccess()).copy();
 			}
@@ -774,8 +797,8 @@ public class TamedRat extends InventoryRat {
 		return !(this.getVehicle() instanceof Player);
 	}
 
-	public ItemStack getResultForRecipe(RecipeType<? extends SingleItemRecipe> recipe, ItemStack stack) {
-		Optional<? extends SingleItemRecipe> optional = this.level().getRecipeManager().getRecipeFor(recipe, new SimpleContainer(stack), this.level());
+	public <T extends SingleItemRecipe> ItemStack getResultForRecipe(RecipeType<T> recipe, ItemStack stack) {
+		Optional<T> optional = RatRecipeCache.getRecipeFor(recipe, stack, this.level());
 		if (optional.isPresent()) {
 			ItemStack itemstack = optional.get().getResultItem(this.level().registryAccess());
 			if (!itemstack.isEmpty()) {
@@ -1130,37 +1153,7 @@ public class TamedRat extends InventoryRat {
 		if (stack.isEmpty()) {
 			return false;
 		}
-		if ((RatUpgradeUtils.hasUpgrade(this, RatsItemRegistry.RAT_UPGRADE_BLACKLIST.get()) || RatUpgradeUtils.hasUpgrade(this, RatsItemRegistry.RAT_UPGRADE_WHITELIST.get()))) {
-			CompoundTag tag;
-			if (RatUpgradeUtils.hasUpgrade(this, RatsItemRegistry.RAT_UPGRADE_BLACKLIST.get())) {
-				tag = RatUpgradeUtils.getUpgrade(this, RatsItemRegistry.RAT_UPGRADE_BLACKLIST.get()).getTag();
-			} else {
-				tag = RatUpgradeUtils.getUpgrade(this, RatsItemRegistry.RAT_UPGRADE_WHITELIST.get()).getTag();
-			}
-			String ourItemID = Objects.requireNonNull(ForgeRegistries.ITEMS.getKey(stack.getItem())).toString();
-			if (tag != null && tag.contains("Items", 9)) {
-				ListTag list = tag.getList("Items", 10);
-				if (RatUpgradeUtils.hasUpgrade(this, RatsItemRegistry.RAT_UPGRADE_BLACKLIST.get())) {
-					for (int i = 0; i < list.size(); ++i) {
-						String itemID = list.getCompound(i).getString("id");
-						if (ourItemID.equals(itemID)) {
-							return false;
-						}
-					}
-					return true;
-				} else {
-					//whitelist
-					for (int i = 0; i < list.size(); ++i) {
-						String itemID = list.getCompound(i).getString("id");
-						if (ourItemID.equals(itemID)) {
-							return true;
-						}
-					}
-					return false;
-				}
-			}
-		}
-		return true;
+		return this.getUpgradeIndex().passesItemFilter(stack.getItem());
 	}
 
 	@Override
@@ -1260,14 +1253,60 @@ public class TamedRat extends InventoryRat {
 		return super.shouldPlayIdleAnimations() && !this.isInTube() && !this.isInWheel() && this.cookingProgress <= 0 && bool;
 	}
 
-	public boolean hasAnyUpgrades() {
-		for (EquipmentSlot slot : RatUpgradeUtils.UPGRADE_SLOTS) {
-			if (!this.getItemBySlot(slot).isEmpty()) {
-				return true;
+	public RatUpgradeIndex getUpgradeIndex() {
+		//the inventory is created (and can be changed) before our own fields are initialized
+		if (this.upgradeIndex == null) {
+			this.upgradeIndex = new RatUpgradeIndex(this);
+		}
+		return this.upgradeIndex;
+	}
+
+	public ReachableItemFinder getItemFinder() {
+		return this.itemFinder;
+	}
+
+	@Override
+	public void containerChanged(Container container) {
+		super.containerChanged(container);
+		if (this.upgradeIndex != null) {
+			this.upgradeIndex.markDirty();
+		}
+		this.updateVoodooRegistration();
+	}
+
+	@Override
+	public void setOwnerUUID(@Nullable UUID uuid) {
+		super.setOwnerUUID(uuid);
+		this.updateVoodooRegistration();
+	}
+
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		this.updateVoodooRegistration();
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!this.level().isClientSide()) {
+			VoodooRatRegistry.get(this.level()).remove(this);
+			BlockPos below = this.blockPosition().below();
+			if (this.level().isLoaded(below) && this.level().getBlockEntity(below) instanceof RatCraftingTableBlockEntity table) {
+				table.removeWorker(this);
 			}
 		}
+	}
 
-		return false;
+	private void updateVoodooRegistration() {
+		//the inventory is set up (and changed) before the rat is added to the level, which registers it anyway
+		if (this.isAddedToWorld() && !this.level().isClientSide()) {
+			VoodooRatRegistry.get(this.level()).update(this);
+		}
+	}
+
+	public boolean hasAnyUpgrades() {
+		return !this.getUpgradeIndex().isEmpty();
 	}
 
 	@Override
@@ -1275,6 +1314,13 @@ public class TamedRat extends InventoryRat {
 		return false;
 	}
 
+	/**
+	 * Queues the fluid this rat is carrying to be sent to players tracking it. At most one update is sent per tick.
+	 */
+	public void syncTransportingFluid() {
+		this.transportingFluidChanged = true;
+	}
+
 	public void onUpgradeChanged() {
 		this.setupDynamicAI();
 
@@ -1354,19 +1400,11 @@ public class TamedRat extends InventoryRat {
 	}
 
 	public int getRFTransferRate() {
-		AtomicInteger energy = new AtomicInteger();
-		RatUpgradeUtils.forEachUpgrade(this, item -> item instanceof EnergyRatUpgradeItem, (stack, slot) ->
-				energy.set(((EnergyRatUpgradeItem) stack.getItem()).getRFTransferRate()));
-
-		return energy.get();
+		return this.getUpgradeIndex().getRFTransferRate();
 	}
 
 	public int getMBTransferRate() {
-		AtomicInteger fluid = new AtomicInteger();
-		RatUpgradeUtils.forEachUpgrade(this, item -> item instanceof BucketRatUpgradeItem, (stack, slot) ->
-				fluid.set(((BucketRatUpgradeItem) stack.getItem()).getMbTransferRate()));
-
-		return fluid.get();
+		return this.getUpgradeIndex().getMBTransferRate();
 	}
 
 	@Override
@@ -1385,9 +1423,7 @@ public class TamedRat extends InventoryRat {
 
 	@Nullable
 	public EntityType<?> getMountEntityType() {
-		AtomicReference<EntityType<?>> type = new AtomicReference<>(null);
-		RatUpgradeUtils.forEachUpgrade(this, item -> item instanceof MountRatUpgradeItem, (stack, slot) -> type.set(((MountRatUpgradeItem<?>) stack.getItem()).getEntityType()));
-		return type.get();
+		return this.getUpgradeIndex().getMountEntityType();
 	}
 
 	public double getRatDistanceCenterSq(double x, double y, double z) {
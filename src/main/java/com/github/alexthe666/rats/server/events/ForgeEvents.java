@@ -17,10 +17,16 @@ import com.github.alexthe666.rats.server.message.ManageRatStaffPacket;
 import com.github.alexthe666.rats.server.message.RatsNetworkHandler;
 import com.github.alexthe666.rats.server.message.SyncArmSwingPacket;
 import com.github.alexthe666.rats.server.misc.PlagueDoctorTrades;
+import com.github.alexthe666.rats.server.misc.RatRecipeCache;
 import com.github.alexthe666.rats.server.misc.RatUpgradeUtils;
+import com.github.alexthe666.rats.server.misc.RatTreeUtils;
 import com.github.alexthe666.rats.server.misc.RatUtils;
 import com.github.alexthe666.rats.server.misc.RatsLangConstants;
+import com.github.alexthe666.rats.server.world.BlockInterestIndex;
 import com.github.alexthe666.rats.server.world.PlagueDoctorSpawner;
+import com.github.alexthe666.rats.server.world.RatTubeNetwork;
+import com.github.alexthe666.rats.server.world.SummonerRegistry;
+import com.github.alexthe666.rats.server.world.VoodooRatRegistry;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.particles.ItemParticleOption;
@@ -63,8 +69,10 @@ import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.LootTable;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.common.ToolActions;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.event.VanillaGameEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.item.ItemExpireEvent;
@@ -72,7 +80,10 @@ import net.minecraftforge.event.entity.living.*;
 import net.minecraftforge.event.entity.player.ItemFishedEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.event.village.VillagerTradesEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -217,6 +228,40 @@ public class ForgeEvents {
 		}
 	}
 
+	@SubscribeEvent
+	public static void invalidateBlockCaches(BlockEvent.NeighborNotifyEvent event) {
+		if (!event.getLevel().isClientSide()) {
+			BlockInterestIndex.onBlockChanged(event.getLevel(), event.getPos());
+			RatTreeUtils.onBlockChanged(event.getLevel(), event.getPos());
+		}
+	}
+
+	@SubscribeEvent
+	public static void invalidateTreeAnalysis(TagsUpdatedEvent event) {
+		RatTreeUtils.onTagsUpdated();
+	}
+
+	@SubscribeEvent
+	public static void forgetUnloadedChunkInterests(ChunkEvent.Unload event) {
+		if (!event.getLevel().isClientSide()) {
+			BlockInterestIndex.onChunkUnloaded(event.getLevel(), event.getChunk().getPos());
+		}
+	}
+
+	@SubscribeEvent
+	public static void forgetRecipeCache(ServerStoppedEvent event) {
+		RatRecipeCache.clear();
+	}
+
+	@SubscribeEvent
+	public static void forgetUnloadedLevelCaches(LevelEvent.Unload event) {
+		BlockInterestIndex.onLevelUnloaded(event.getLevel());
+		RatTreeUtils.onLevelUnloaded(event.getLevel());
+		RatTubeNetwork.onLevelUnloaded(event.getLevel());
+		SummonerRegistry.onLevelUnloaded(event.getLevel());
+		VoodooRatRegistry.onLevelUnloaded(event.getLevel());
+	}
+
 	@SubscribeEvent
 	public static void maybeSendPlayerWarning(PlayerEvent.PlayerLoggedInEvent event) {
 		if (!event.getEntity().level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING)) {
@@ -378,8 +423,14 @@ public class ForgeEvents {
 
 	@SubscribeEvent
 	public static void onLivingHurt(LivingHurtEvent event) {
-		if (event.getEntity() instanceof Player) {
-			List<TamedRat> list = event.getEntity().level().getEntitiesOfClass(TamedRat.class, event.getEntity().getBoundingBox().inflate(RatConfig.ratVoodooDistance), rat -> rat.isTame() && rat.isOwnedBy(event.getEntity()) && !rat.isInvulnerable() && !rat.isInvulnerableTo(event.getSource()) && RatUpgradeUtils.hasUpgrade(rat, RatsItemRegistry.RAT_UPGRADE_VOODOO.get()));
+		if (event.getEntity() instanceof Player player && !player.level().isClientSide()) {
+			AABB range = player.getBoundingBox().inflate(RatConfig.ratVoodooDistance);
+			List<TamedRat> list = new ArrayList<>();
+			for (TamedRat rat : VoodooRatRegistry.get(player.level()).getRats(player.getUUID())) {
+				if (rat.isAlive() && rat.getBoundingBox().intersects(range) && !rat.isInvulnerable() && !rat.isInvulnerableTo(event.getSource())) {
+					list.add(rat);
+				}
+			}
 			if (!list.isEmpty()) {
 				float damage = event.getAmount() / list.size();
 				event.setCanceled(true);
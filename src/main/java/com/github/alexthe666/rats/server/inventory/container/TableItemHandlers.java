@@ -49,6 +49,7 @@ public class TableItemHandlers {
 
 		@Override
 		protected void onContentsChanged(int slot) {
+			this.table.onGuideChanged();
 			this.table.updateRecipe();
 			this.table.setChanged();
 		}
@@ -2,15 +2,14 @@ package com.github.alexthe666.rats.server.items;
 
 import com.github.alexthe666.rats.registry.RatsItemRegistry;
 import com.github.alexthe666.rats.registry.RatsSoundRegistry;
+import com.github.alexthe666.rats.server.misc.RatRecipeCache;
 import com.github.alexthe666.rats.server.misc.RatsLangConstants;
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.Container;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResultHolder;
-import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -57,8 +56,7 @@ public class OreRatNuggetItem extends Item {
 	}
 
 	public static ItemStack getIngot(Level level, ItemStack stack) {
-		Container container = new SimpleContainer(stack);
-		SmeltingRecipe recipe = level.getRecipeManager().getRecipeFor(RecipeType.SMELTING, container, level).orElse(null);
+		SmeltingRecipe recipe = RatRecipeCache.getRecipeFor(RecipeType.SMELTING, stack, level).orElse(null);
 		if (recipe != null && !recipe.getResultItem(level.registryAccess()).isEmpty()) {
 			return recipe.getResultItem(level.registryAccess()).copy();
 		}
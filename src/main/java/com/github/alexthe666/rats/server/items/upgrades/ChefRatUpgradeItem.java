@@ -3,9 +3,9 @@ package com.github.alexthe666.rats.server.items.upgrades;
 import com.github.alexthe666.rats.registry.RatsRecipeRegistry;
 import com.github.alexthe666.rats.server.entity.rat.TamedRat;
 import com.github.alexthe666.rats.server.items.upgrades.interfaces.TickRatUpgrade;
+import com.github.alexthe666.rats.server.misc.RatRecipeCache;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.world.InteractionHand;
-import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.item.crafting.SmeltingRecipe;
@@ -64,7 +64,7 @@ public class ChefRatUpgradeItem extends BaseRatUpgradeItem implements TickRatUpg
 			return specialChefRecipe.copy();
 		}
 
-		Optional<SmeltingRecipe> optional = rat.level().getRecipeManager().getRecipeFor(RecipeType.SMELTING, new SimpleContainer(stack), rat.level());
+		Optional<SmeltingRecipe> optional = RatRecipeCache.getRecipeFor(RecipeType.SMELTING, stack, rat.level());
 		if (optional.isPresent()) {
 			ItemStack itemstack = optional.get().getResultItem(rat.level().registryAccess());
 			if (!itemstack.isEmpty()) {
@@ -54,6 +54,7 @@ public class CraftingRatUpgradeItem extends BaseRatUpgradeItem implements HoldsI
 		if (rat.getRespawnCountdown() <= 0 && rat.isTame()) {
 			BlockEntity te = rat.level().getBlockEntity(rat.blockPosition().below());
 			if (te instanceof RatCraftingTableBlockEntity table && !rat.level().isClientSide()) {
+				table.setWorker(rat);
 				double d2 = rat.getRandom().nextGaussian() * 0.02D;
 				double d0 = rat.getRandom().nextGaussian() * 0.02D;
 				double d1 = rat.getRandom().nextGaussian() * 0.02D;
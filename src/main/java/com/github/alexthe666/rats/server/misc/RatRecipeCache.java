@@ -0,0 +1,56 @@
+package com.github.alexthe666.rats.server.misc;
+
+import net.minecraft.world.Container;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers which single input recipe (if any) each item matches, so rats processing a stack of the same item don't rerun recipe matching for every one of them.
+ * Every datapack reload creates a new recipe manager, which throws the whole cache away, and the cache is emptied once the server stops.
+ * Only untagged stacks on the server are cached, since NBT aware ingredients could match two stacks of the same item differently.
+ */
+public class RatRecipeCache {
+
+	private static final int MAX_ITEMS_PER_TYPE = 256;
+	private static final Map<RecipeType<?>, Map<Item, Optional<?>>> CACHE = new HashMap<>();
+	private static WeakReference<RecipeManager> cachedManager = new WeakReference<>(null);
+
+	@SuppressWarnings("unchecked")
+	public static <T extends Recipe<Container>> Optional<T> getRecipeFor(RecipeType<T> type, ItemStack stack, Level level) {
+		RecipeManager manager = level.getRecipeManager();
+		if (level.isClientSide() || stack.hasTag()) {
+			return manager.getRecipeFor(type, new SimpleContainer(stack), level);
+		}
+		if (manager != cachedManager.get()) {
+			CACHE.clear();
+			cachedManager = new WeakReference<>(manager);
+		}
+		Map<Item, Optional<?>> recipes = CACHE.computeIfAbsent(type, type1 -> new HashMap<>());
+		Optional<?> recipe = recipes.get(stack.getItem());
+		if (recipe == null) {
+			//rats only ever work through a handful of items at a time, so starting over is cheaper than tracking which entries are stale
+			if (recipes.size() >= MAX_ITEMS_PER_TYPE) {
+				recipes.clear();
+			}
+			recipe = manager.getRecipeFor(type, new SimpleContainer(stack), level);
+			recipes.put(stack.getItem(), recipe);
+		}
+		return (Optional<T>) recipe;
+	}
+
+	//the cached recipes would otherwise keep the last world's recipes around after it's closed
+	public static void clear() {
+		CACHE.clear();
+		cachedManager = new WeakReference<>(null);
+	}
+}
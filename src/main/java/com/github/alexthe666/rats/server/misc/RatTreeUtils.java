@@ -1,5 +1,7 @@
 package com.github.alexthe666.rats.server.misc;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.mojang.datafixers.util.Pair;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.core.BlockPos;
@@ -11,11 +13,14 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.enchantment.Enchantments;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.MangroveRootsBlock;
 import net.minecraft.world.level.block.SaplingBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.LootTable;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
@@ -24,54 +29,110 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 public class RatTreeUtils {
 
-	//stores the top of the tree, both as a position and how tall the tree itself is
-	public static final HashMap<BlockPos, Integer> highestleaf = new HashMap<>();
+	//tree analysis results per level, keyed by the root log. Entries are dropped when a block inside the analyzed area changes
+	private static final Map<Level, TreeCache> TREE_CACHES = Collections.synchronizedMap(new WeakHashMap<>());
 
 	public static int calculateLogAmount(Level level, BlockPos pos) {
-		highestleaf.put(pos, 0);
+		return analyzeTree(level, pos).logCount();
+	}
+
+	public static TreeInfo analyzeTree(Level level, BlockPos pos) {
+		TreeCache cache = TREE_CACHES.computeIfAbsent(level, key -> new TreeCache());
+		TreeInfo info = cache.trees.getIfPresent(pos);
+		if (info == null) {
+			info = scanTree(level, pos.immutable());
+			cache.trees.put(pos.immutable(), info);
+		}
+		return info;
+	}
 
+	private static TreeInfo scanTree(Level level, BlockPos pos) {
 		int leafcount = 8;
 		int logcount = 0;
 		int prevleafcount = -1;
 		int prevlogcount = -1;
 
 		int highesty = 0;
+		int scannedTo = pos.getY();
+		BlockPos.MutableBlockPos currentPos = new BlockPos.MutableBlockPos();
 		for (int y = 1; y <= 30; y += 1) {
 			if (prevleafcount == leafcount && prevlogcount == logcount) {
 				break;
 			}
 			prevleafcount = leafcount;
 			prevlogcount = logcount;
-
-			Iterator<BlockPos> it = BlockPos.betweenClosedStream(pos.getX() - 2, pos.getY() + (y - 1), pos.getZ() - 2, pos.getX() + 2, pos.getY() + (y - 1), pos.getZ() + 2).iterator();
-			while (it.hasNext()) {
-				BlockPos currentPos = it.next();
-				BlockState currentState = level.getBlockState(currentPos);
-				if (isTreeLeaf(currentState)) {
-					leafcount -= 1;
-					if (currentPos.getY() > highesty) {
-						highesty = currentPos.getY();
+			scannedTo = pos.getY() + (y - 1);
+
+			for (int x = -2; x <= 2; x++) {
+				for (int z = -2; z <= 2; z++) {
+					currentPos.set(pos.getX() + x, scannedTo, pos.getZ() + z);
+					BlockState currentState = level.getBlockState(currentPos);
+					if (isTreeLeaf(currentState)) {
+						leafcount -= 1;
+						if (currentPos.getY() > highesty) {
+							highesty = currentPos.getY();
+						}
+					} else if (isTreeLog(currentState)) {
+						logcount += 1;
 					}
-				} else if (isTreeLog(currentState)) {
-					logcount += 1;
 				}
 			}
 		}
 
-		highestleaf.put(pos.immutable(), highesty);
+		//also watch the layer above the last one we scanned, since something showing up there would have kept the scan going
+		BoundingBox bounds = new BoundingBox(pos.getX() - 2, pos.getY() - 1, pos.getZ() - 2, pos.getX() + 2, scannedTo + 1, pos.getZ() + 2);
+		return new TreeInfo(leafcount < 0 ? logcount : -1, highesty, bounds);
+	}
+
+	public static void onBlockChanged(LevelAccessor level, BlockPos pos) {
+		if (level instanceof Level real) {
+			TreeCache cache = TREE_CACHES.get(real);
+			if (cache != null && cache.trees.size() > 0) {
+				cache.trees.asMap().values().removeIf(info -> info.bounds().isInside(pos));
+			}
+		}
+	}
+
+	public static void onLevelUnloaded(LevelAccessor level) {
+		if (level instanceof Level real) {
+			TREE_CACHES.remove(real);
+		}
+	}
 
-		if (leafcount < 0) {
-			return logcount;
+	//what counts as a log, leaf or sapling comes from tags (and loot tables), which a datapack reload can change
+	public static void onTagsUpdated() {
+		for (TreeCache cache : TREE_CACHES.values()) {
+			cache.trees.invalidateAll();
+			cache.saplings.invalidateAll();
 		}
-		return -1;
+	}
+
+	/**
+	 * @param logCount    how many logs the tree has, or -1 if there arent enough leaves around for it to count as a tree
+	 * @param highestLeaf the y level of the highest leaf found
+	 * @param bounds      the area that was looked at to come up with this
+	 */
+	public record TreeInfo(int logCount, int highestLeaf, BoundingBox bounds) {
+	}
+
+	private static class TreeCache {
+		private final Cache<BlockPos, TreeInfo> trees = CacheBuilder.newBuilder().maximumSize(128).expireAfterWrite(5, TimeUnit.MINUTES).build();
+		private final Cache<Block, Optional<Block>> saplings = CacheBuilder.newBuilder().maximumSize(64).expireAfterWrite(5, TimeUnit.MINUTES).build();
 	}
 
 	//collects all stump blocks on the tree. This helps figure out where to place saplings.
@@ -94,6 +155,17 @@ public class RatTreeUtils {
 	//a small method to pull the sapling from the leaves loot table. Returns null if it doesnt find anything
 	@Nullable
 	public static Block getSaplingFromLeaves(ServerLevel level, Block leaves) {
+		TreeCache cache = TREE_CACHES.computeIfAbsent(level, key -> new TreeCache());
+		Optional<Block> sapling = cache.saplings.getIfPresent(leaves);
+		if (sapling == null) {
+			sapling = Optional.ofNullable(rollSaplingFromLeaves(level, leaves));
+			cache.saplings.put(leaves, sapling);
+		}
+		return sapling.orElse(null);
+	}
+
+	@Nullable
+	private static Block rollSaplingFromLeaves(ServerLevel level, Block leaves) {
 		try {
 			LootTable loot = level.getServer().getLootData().getLootTable(leaves.getLootTable());
 			LootParams.Builder context = new LootParams.Builder(level).withParameter(LootContextParams.TOOL, createMaxHoe()).withParameter(LootContextParams.BLOCK_STATE, leaves.defaultBlockState()).withParameter(LootContextParams.ORIGIN, Vec3.ZERO).withLuck(Float.MAX_VALUE);
@@ -176,15 +248,61 @@ public class RatTreeUtils {
 	}
 
 
-	public static Pair<Boolean, List<BlockPos>> isConnectedToLogs(Level level, BlockPos startpos) {
-		List<BlockPos> recursiveList = getBlocksNextToEachOtherMaterial(level, startpos, 6);
-		for (BlockPos connectedpos : recursiveList) {
-			BlockState connectedblock = level.getBlockState(connectedpos);
-			if (isTreeLog(connectedblock)) {
-				return new Pair<>(true, recursiveList);
+	/**
+	 * Finds the leaves that would decay now that the given logs are gone, by flood filling outwards from them.
+	 * Like vanilla leaf decay, leaves stay if they are within 6 steps of a log that is still standing.
+	 *
+	 * @param removedLogs the logs that were just broken
+	 * @param leafType    the leaves this tree is made of. If this isnt a leaf block any kind of tree leaf is allowed
+	 * @param bounds      how far out to search for leaves
+	 */
+	public static List<BlockPos> getLeavesToDecay(Level level, List<BlockPos> removedLogs, BlockState leafType, BoundingBox bounds) {
+		boolean anyLeaves = !isTreeLeaf(leafType);
+		Set<BlockPos> visited = new HashSet<>();
+		List<BlockPos> leaves = new ArrayList<>();
+		Set<BlockPos> supportingLogs = new HashSet<>();
+		ArrayDeque<BlockPos> queue = new ArrayDeque<>(removedLogs);
+		visited.addAll(removedLogs);
+
+		while (!queue.isEmpty()) {
+			BlockPos pos = queue.poll();
+			for (Direction dir : Direction.values()) {
+				BlockPos next = pos.relative(dir);
+				if (!bounds.isInside(next) || !visited.add(next)) {
+					continue;
+				}
+				BlockState state = level.getBlockState(next);
+				if (isTreeLog(state)) {
+					supportingLogs.add(next);
+				} else if (isTreeLeaf(state) && (anyLeaves || state.is(leafType.getBlock())) && !(state.hasProperty(LeavesBlock.PERSISTENT) && state.getValue(LeavesBlock.PERSISTENT))) {
+					leaves.add(next);
+					queue.add(next);
+				}
 			}
 		}
-		return new Pair<>(false, recursiveList);
+
+		if (supportingLogs.isEmpty()) {
+			return leaves;
+		}
+
+		//walk back out from the logs still standing to find the leaves they keep alive
+		Set<BlockPos> candidates = new HashSet<>(leaves);
+		Set<BlockPos> supported = new HashSet<>();
+		List<BlockPos> layer = new ArrayList<>(supportingLogs);
+		for (int distance = 1; distance <= 6 && !layer.isEmpty(); distance++) {
+			List<BlockPos> nextLayer = new ArrayList<>();
+			for (BlockPos pos : layer) {
+				for (Direction dir : Direction.values()) {
+					BlockPos next = pos.relative(dir);
+					if (candidates.contains(next) && supported.add(next)) {
+						nextLayer.add(next);
+					}
+				}
+			}
+			layer = nextLayer;
+		}
+		leaves.removeIf(supported::contains);
+		return leaves;
 	}
 
 	public static boolean isTreeLog(BlockState block) {
@@ -214,44 +332,4 @@ public class RatTreeUtils {
 	public static boolean isTreeLeaf(BlockState block) {
 		return block.is(BlockTags.LEAVES) || block.is(BlockTags.WART_BLOCKS) || block.is(Blocks.SHROOMLIGHT);
 	}
-
-	private static final HashMap<BlockPos, Integer> rgnbmcount = new HashMap<>();
-
-	public static List<BlockPos> getBlocksNextToEachOtherMaterial(Level level, BlockPos startpos, int maxDistance) {
-		List<BlockPos> checkedblocks = new ArrayList<>();
-		List<BlockPos> theblocksaround = new ArrayList<>();
-		if (level.getBlockState(startpos).is(BlockTags.LOGS) || level.getBlockState(startpos).is(BlockTags.LEAVES)) {
-			theblocksaround.add(startpos);
-			checkedblocks.add(startpos);
-		}
-
-		rgnbmcount.put(startpos.immutable(), 0);
-		recursiveGetNextBlocksMaterial(level, startpos, startpos, theblocksaround, checkedblocks, maxDistance);
-		return theblocksaround;
-	}
-
-	private static void recursiveGetNextBlocksMaterial(Level level, BlockPos startpos, BlockPos pos, List<BlockPos> theblocksaround, List<BlockPos> checkedblocks, int maxDistance) {
-		int rgnbmc = rgnbmcount.get(startpos);
-		if (rgnbmc > 100) {
-			return;
-		}
-		rgnbmcount.put(startpos, rgnbmc + 1);
-
-		for (Direction dir : Direction.values()) {
-			BlockPos pba = pos.relative(dir);
-			if (checkedblocks.contains(pba)) {
-				continue;
-			}
-			checkedblocks.add(pba);
-
-			if (level.getBlockState(pba).is(BlockTags.LOGS) || level.getBlockState(pba).is(BlockTags.LEAVES)) {
-				if (!theblocksaround.contains(pba)) {
-					theblocksaround.add(pba);
-					if (startpos.closerThan(pba, maxDistance)) {
-						recursiveGetNextBlocksMaterial(level, startpos, pba, theblocksaround, checkedblocks, maxDistance);
-					}
-				}
-			}
-		}
-	}
 }
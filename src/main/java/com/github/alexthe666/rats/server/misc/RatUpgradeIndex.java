@@ -0,0 +1,184 @@
+package com.github.alexthe666.rats.server.misc;
+
+import com.github.alexthe666.rats.registry.RatsItemRegistry;
+import com.github.alexthe666.rats.server.entity.rat.TamedRat;
+import com.github.alexthe666.rats.server.items.upgrades.BucketRatUpgradeItem;
+import com.github.alexthe666.rats.server.items.upgrades.EnergyRatUpgradeItem;
+import com.github.alexthe666.rats.server.items.upgrades.MountRatUpgradeItem;
+import com.github.alexthe666.rats.server.items.upgrades.interfaces.CombinedUpgrade;
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.ContainerHelper;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flattened view of every upgrade a rat has installed, including the contents of combined upgrades.
+ * The index is only rebuilt after the rat's inventory reports a change to one of its upgrade slots.
+ */
+public class RatUpgradeIndex {
+
+	private final TamedRat rat;
+	private final ItemStack[] installed = new ItemStack[RatUpgradeUtils.UPGRADE_SLOTS.length];
+	private final List<Entry> entries = new ArrayList<>();
+	private final Map<Item, ItemStack> byItem = new IdentityHashMap<>();
+	@Nullable
+	private Set<Item> itemFilter;
+	private boolean whitelist;
+	@Nullable
+	private EntityType<?> mountType;
+	private int rfTransferRate;
+	private int mbTransferRate;
+	private boolean dirty = true;
+
+	public RatUpgradeIndex(TamedRat rat) {
+		this.rat = rat;
+	}
+
+	public void markDirty() {
+		this.dirty = true;
+	}
+
+	public List<Entry> getEntries() {
+		this.validate();
+		return this.entries;
+	}
+
+	public ItemStack get(Item item) {
+		this.validate();
+		return this.byItem.getOrDefault(item, ItemStack.EMPTY);
+	}
+
+	public boolean isEmpty() {
+		this.validate();
+		return this.entries.isEmpty();
+	}
+
+	@Nullable
+	public EntityType<?> getMountEntityType() {
+		this.validate();
+		return this.mountType;
+	}
+
+	public int getRFTransferRate() {
+		this.validate();
+		return this.rfTransferRate;
+	}
+
+	public int getMBTransferRate() {
+		this.validate();
+		return this.mbTransferRate;
+	}
+
+	/**
+	 * Checks the given item against the rat's blacklist or whitelist upgrade. Rats without either, or whose list has no Items tag yet, can pick up anything.
+	 * Once the list has an Items tag it applies as is, so an empty whitelist rejects everything while an empty blacklist rejects nothing.
+	 */
+	public boolean passesItemFilter(Item item) {
+		this.validate();
+		return this.itemFilter == null || this.itemFilter.contains(item) == this.whitelist;
+	}
+
+	private void validate() {
+		if (!this.dirty) return;
+		this.dirty = false;
+		boolean changed = false;
+		for (int i = 0; i < RatUpgradeUtils.UPGRADE_SLOTS.length; i++) {
+			ItemStack stack = this.rat.getItemBySlot(RatUpgradeUtils.UPGRADE_SLOTS[i]);
+			//combined upgrades can have their contents swapped without the stack itself changing, so always reload them
+			if (stack != this.installed[i] || stack.getItem() instanceof CombinedUpgrade) {
+				changed = true;
+			}
+		}
+		if (changed || this.installedStackEmptied()) {
+			this.rebuild();
+		}
+	}
+
+	private boolean installedStackEmptied() {
+		for (Entry entry : this.entries) {
+			if (entry.stack().isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void rebuild() {
+		this.entries.clear();
+		this.byItem.clear();
+		this.itemFilter = null;
+		this.mountType = null;
+		this.rfTransferRate = 0;
+		this.mbTransferRate = 0;
+		for (int i = 0; i < RatUpgradeUtils.UPGRADE_SLOTS.length; i++) {
+			EquipmentSlot slot = RatUpgradeUtils.UPGRADE_SLOTS[i];
+			ItemStack stack = this.rat.getItemBySlot(slot);
+			this.installed[i] = stack;
+			if (stack.isEmpty()) continue;
+			if (stack.getItem() instanceof CombinedUpgrade combined) {
+				this.add(stack, slot, true);
+				CompoundTag tag = stack.getTag();
+				if (tag != null && tag.contains("Items", 9)) {
+					NonNullList<ItemStack> upgradeList = NonNullList.withSize(combined.getUpgradeSlots(), ItemStack.EMPTY);
+					ContainerHelper.loadAllItems(tag, upgradeList);
+					for (ItemStack selectedUpgrade : upgradeList) {
+						if (!selectedUpgrade.isEmpty()) {
+							this.add(selectedUpgrade, slot, false);
+						}
+					}
+				}
+			} else {
+				this.add(stack, slot, false);
+			}
+		}
+		//blacklists win over whitelists if a rat somehow has both
+		ItemStack list = this.byItem.getOrDefault(RatsItemRegistry.RAT_UPGRADE_BLACKLIST.get(), ItemStack.EMPTY);
+		this.whitelist = list.isEmpty();
+		if (this.whitelist) {
+			list = this.byItem.getOrDefault(RatsItemRegistry.RAT_UPGRADE_WHITELIST.get(), ItemStack.EMPTY);
+		}
+		CompoundTag tag = list.getTag();
+		if (tag != null && tag.contains("Items", 9)) {
+			ListTag items = tag.getList("Items", 10);
+			Set<Item> filter = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (int i = 0; i < items.size(); i++) {
+				ResourceLocation id = ResourceLocation.tryParse(items.getCompound(i).getString("id"));
+				Item item = id != null ? ForgeRegistries.ITEMS.getValue(id) : null;
+				if (item != null && item != Items.AIR) {
+					filter.add(item);
+				}
+			}
+			this.itemFilter = filter;
+		}
+	}
+
+	private void add(ItemStack stack, EquipmentSlot slot, boolean combined) {
+		this.entries.add(new Entry(stack, slot, combined));
+		this.byItem.putIfAbsent(stack.getItem(), stack);
+		if (stack.getItem() instanceof MountRatUpgradeItem<?> mount) {
+			this.mountType = mount.getEntityType();
+		} else if (stack.getItem() instanceof EnergyRatUpgradeItem energy) {
+			this.rfTransferRate = energy.getRFTransferRate();
+		} else if (stack.getItem() instanceof BucketRatUpgradeItem bucket) {
+			this.mbTransferRate = bucket.getMbTransferRate();
+		}
+	}
+
+	public record Entry(ItemStack stack, EquipmentSlot slot, boolean combined) {
+	}
+}
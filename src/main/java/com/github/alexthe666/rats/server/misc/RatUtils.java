@@ -32,7 +32,6 @@ import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.Tags;
 import net.minecraftforge.common.util.BlockSnapshot;
 import net.minecraftforge.event.ForgeEventFactory;
-import net.minecraftforge.items.IItemHandler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -127,23 +126,6 @@ public class RatUtils {
 		}
 	}
 
-	public static int getItemSlotFromItemHandler(TamedRat rat, IItemHandler handler, RandomSource random) {
-		List<Integer> items = new ArrayList<>();
-		for (int i = 0; i < handler.getSlots(); i++) {
-			ItemStack stack = handler.extractItem(i, handler.getSlotLimit(i), true);
-			if (rat.canRatPickupItem(stack)) {
-				items.add(i);
-			}
-		}
-		if (items.isEmpty()) {
-			return -1;
-		} else if (items.size() == 1) {
-			return items.get(0);
-		} else {
-			return items.get(random.nextInt(items.size()));
-		}
-	}
-
 	public static boolean isPredator(Entity entity) {
 		return entity instanceof Ocelot || entity instanceof Cat || entity instanceof Fox;
 	}
@@ -172,12 +154,19 @@ public class RatUtils {
 	}
 
 	public static boolean canRatBreakBlock(Level level, BlockPos pos, DiggingRat rat) {
+		return isBreakableByRats(level, pos) && ForgeHooks.canEntityDestroy(level, pos, rat);
+	}
+
+	/**
+	 * The part of {@link #canRatBreakBlock} that doesn't depend on the rat doing the breaking.
+	 */
+	public static boolean isBreakableByRats(Level level, BlockPos pos) {
 		BlockState blockState = level.getBlockState(pos);
 		if (blockState.isAir() || blockState.liquid() || level.getBlockEntity(pos) != null) {
 			return false;
 		}
 		float hardness = blockState.getDestroySpeed(level, pos);
-		return hardness >= 0.0F && hardness <= RatConfig.ratStrengthThreshold && ForgeHooks.canEntityDestroy(level, pos, rat);
+		return hardness >= 0.0F && hardness <= RatConfig.ratStrengthThreshold;
 	}
 
 	public static boolean canRatPlaceBlock(Level level, BlockPos pos, DiggingRat rat) {
@@ -0,0 +1,179 @@
+package com.github.alexthe666.rats.server.world;
+
+import com.github.alexthe666.rats.server.misc.RatTreeUtils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.BeehiveBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.BonemealableBlock;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Keeps track of the positions of blocks harvesting rats care about, split up by chunk section.
+ * Sections are scanned lazily the first time a rat searches them, and are rescanned after a block inside them changes
+ * or after {@link #RESCAN_INTERVAL} ticks, whichever comes first. Goals should still verify the state of every position they get back.
+ */
+public class BlockInterestIndex {
+
+	private static final Map<Level, BlockInterestIndex> INDEXES = new WeakHashMap<>();
+	//catches block changes that skip neighbor updates (setBlock with only flag 2)
+	private static final long RESCAN_INTERVAL = 1200L;
+	private static final long[] NONE = new long[0];
+	private static final Map<Block, Boolean> FERTILE_BLOCKS = new IdentityHashMap<>();
+
+	private final Level level;
+	private final Long2ObjectMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+	private BlockInterestIndex(Level level) {
+		this.level = level;
+	}
+
+	public static BlockInterestIndex get(Level level) {
+		return INDEXES.computeIfAbsent(level, BlockInterestIndex::new);
+	}
+
+	@Nullable
+	private static BlockInterestIndex getIfPresent(LevelAccessor level) {
+		return level instanceof Level real ? INDEXES.get(real) : null;
+	}
+
+	public static void onBlockChanged(LevelAccessor level, BlockPos pos) {
+		BlockInterestIndex index = getIfPresent(level);
+		if (index != null) {
+			index.sections.remove(SectionPos.asLong(pos));
+		}
+	}
+
+	public static void onChunkUnloaded(LevelAccessor level, ChunkPos pos) {
+		BlockInterestIndex index = getIfPresent(level);
+		if (index != null) {
+			for (int y = index.level.getMinSection(); y < index.level.getMaxSection(); y++) {
+				index.sections.remove(SectionPos.asLong(pos.x, y, pos.z));
+			}
+		}
+	}
+
+	public static void onLevelUnloaded(LevelAccessor level) {
+		if (level instanceof Level real) {
+			INDEXES.remove(real);
+		}
+	}
+
+	//fertility is a Forge hook that depends on the state (farmland moisture), so index every block that is fertile in at least one of its states
+	private static boolean canEverBeFertile(BlockState state) {
+		Block block = state.getBlock();
+		Boolean fertile = FERTILE_BLOCKS.get(block);
+		if (fertile == null) {
+			fertile = block.getStateDefinition().getPossibleStates().stream().anyMatch(possible -> block.isFertile(possible, EmptyBlockGetter.INSTANCE, BlockPos.ZERO));
+			FERTILE_BLOCKS.put(block, fertile);
+		}
+		return fertile;
+	}
+
+	/**
+	 * Collects every position in the cube of the given radius around the center that may match the given interest.
+	 */
+	public List<BlockPos> find(Interest interest, BlockPos center, int radius) {
+		List<BlockPos> found = new ArrayList<>();
+		int minX = center.getX() - radius, maxX = center.getX() + radius;
+		int minY = Math.max(center.getY() - radius, this.level.getMinBuildHeight());
+		int maxY = Math.min(center.getY() + radius, this.level.getMaxBuildHeight() - 1);
+		int minZ = center.getZ() - radius, maxZ = center.getZ() + radius;
+		long gameTime = this.level.getGameTime();
+
+		for (int sx = SectionPos.blockToSectionCoord(minX); sx <= SectionPos.blockToSectionCoord(maxX); sx++) {
+			for (int sz = SectionPos.blockToSectionCoord(minZ); sz <= SectionPos.blockToSectionCoord(maxZ); sz++) {
+				LevelChunk chunk = this.level.getChunkSource().getChunkNow(sx, sz);
+				if (chunk == null) continue;
+				for (int sy = SectionPos.blockToSectionCoord(minY); sy <= SectionPos.blockToSectionCoord(maxY); sy++) {
+					long key = SectionPos.asLong(sx, sy, sz);
+					Section section = this.sections.get(key);
+					if (section == null || gameTime - section.scannedAt > RESCAN_INTERVAL) {
+						section = new Section(gameTime);
+						this.sections.put(key, section);
+					}
+					for (long packed : section.get(interest, chunk.getSection(this.level.getSectionIndexFromSectionY(sy)), sx, sy, sz)) {
+						int x = BlockPos.getX(packed), y = BlockPos.getY(packed), z = BlockPos.getZ(packed);
+						if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+							found.add(BlockPos.of(packed));
+						}
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	private static class Section {
+		private final long scannedAt;
+		private final long[][] positions = new long[Interest.values().length][];
+
+		private Section(long scannedAt) {
+			this.scannedAt = scannedAt;
+		}
+
+		private long[] get(Interest interest, LevelChunkSection section, int sx, int sy, int sz) {
+			long[] cached = this.positions[interest.ordinal()];
+			if (cached == null) {
+				cached = scan(interest, section, sx, sy, sz);
+				this.positions[interest.ordinal()] = cached;
+			}
+			return cached;
+		}
+
+		private static long[] scan(Interest interest, LevelChunkSection section, int sx, int sy, int sz) {
+			if (section.hasOnlyAir() || !section.maybeHas(interest.predicate)) {
+				return NONE;
+			}
+			LongArrayList list = new LongArrayList();
+			int baseX = SectionPos.sectionToBlockCoord(sx), baseY = SectionPos.sectionToBlockCoord(sy), baseZ = SectionPos.sectionToBlockCoord(sz);
+			for (int y = 0; y < SectionPos.SECTION_SIZE; y++) {
+				for (int z = 0; z < SectionPos.SECTION_SIZE; z++) {
+					for (int x = 0; x < SectionPos.SECTION_SIZE; x++) {
+						if (interest.predicate.test(section.getBlockState(x, y, z))) {
+							list.add(BlockPos.asLong(baseX + x, baseY + y, baseZ + z));
+						}
+					}
+				}
+			}
+			return list.toLongArray();
+		}
+	}
+
+	//only the block type should matter here, anything state dependent (crop age, honey level) is checked by the goals themselves
+	public enum Interest {
+		CROP(state -> state.is(BlockTags.CROPS)),
+		LOG(RatTreeUtils::isTreeLog),
+		FARMLAND(BlockInterestIndex::canEverBeFertile),
+		GROWABLE(state -> state.is(BlockTags.BEE_GROWABLES) && state.getBlock() instanceof BonemealableBlock),
+		GARDEN(state -> !state.isAir() && !state.liquid() && (state.canBeReplaced() || state.is(BlockTags.FLOWERS))),
+		BEEHIVE(state -> state.getBlock() instanceof BeehiveBlock),
+		WATER_CAULDRON(state -> state.is(Blocks.WATER_CAULDRON)),
+		WATER(state -> state.is(Blocks.WATER));
+
+		private final Predicate<BlockState> predicate;
+
+		Interest(Predicate<BlockState> predicate) {
+			this.predicate = predicate;
+		}
+	}
+}
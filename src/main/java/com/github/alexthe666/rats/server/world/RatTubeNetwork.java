@@ -0,0 +1,261 @@
+package com.github.alexthe666.rats.server.world;
+
+import com.github.alexthe666.rats.server.block.RatCageBlock;
+import com.github.alexthe666.rats.server.block.RatTubeBlock;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.pathfinder.BlockPathTypes;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.WeakHashMap;
+
+/**
+ * Graph of every rat tube network in a level. Junctions (bends, splits, dead ends, openings and tubes leading into cages) are the nodes,
+ * and the straight runs of tube between them are the edges. Junctions are discovered lazily the first time a rat routes through them,
+ * and are forgotten again along with their neighbours whenever a tube they depend on changes state.
+ */
+public class RatTubeNetwork {
+
+	private static final Map<Level, RatTubeNetwork> NETWORKS = new WeakHashMap<>();
+	private static final int MAX_RUN_LENGTH = 256;
+	private static final int MAX_SEARCHED_JUNCTIONS = 1024;
+
+	private final Level level;
+	private final Long2ObjectMap<Junction> junctions = new Long2ObjectOpenHashMap<>();
+	//tubes in the middle of a straight run, mapped to the junctions at either end of it
+	private final Long2ObjectMap<long[]> runs = new Long2ObjectOpenHashMap<>();
+
+	private RatTubeNetwork(Level level) {
+		this.level = level;
+	}
+
+	public static RatTubeNetwork get(Level level) {
+		return NETWORKS.computeIfAbsent(level, RatTubeNetwork::new);
+	}
+
+	public static void onTubeChanged(LevelAccessor level, BlockPos pos) {
+		if (level instanceof Level real) {
+			RatTubeNetwork network = NETWORKS.get(real);
+			if (network != null) {
+				network.invalidate(pos.asLong());
+				for (Direction direction : Direction.values()) {
+					network.invalidate(pos.relative(direction).asLong());
+				}
+			}
+		}
+	}
+
+	public static void onLevelUnloaded(LevelAccessor level) {
+		if (level instanceof Level real) {
+			NETWORKS.remove(real);
+		}
+	}
+
+	/**
+	 * Builds a path through the tube network from the given tube to the exit closest to the target.
+	 * If the target itself is part of the network the path leads to the junction closest to it instead.
+	 *
+	 * @return the route, or null if the start isn't in a tube or no junction gets the rat any closer to its target
+	 */
+	@Nullable
+	public Path findRoute(BlockPos start, BlockPos target) {
+		if (!(this.level.getBlockState(start).getBlock() instanceof RatTubeBlock)) return null;
+		BlockState targetState = this.level.getBlockState(target);
+		boolean targetInside = targetState.getBlock() instanceof RatTubeBlock || targetState.getBlock() instanceof RatCageBlock;
+
+		Long2IntMap costs = new Long2IntOpenHashMap();
+		Long2LongMap previous = new Long2LongOpenHashMap();
+		costs.defaultReturnValue(Integer.MAX_VALUE);
+		PriorityQueue<Step> open = new PriorityQueue<>();
+		long startKey = start.asLong();
+		costs.put(startKey, 0);
+		open.add(new Step(startKey, 0));
+
+		long best = startKey;
+		double bestDist = targetInside ? start.distSqr(target) : Double.MAX_VALUE;
+		int searched = 0;
+		while (!open.isEmpty() && searched++ < MAX_SEARCHED_JUNCTIONS) {
+			Step step = open.poll();
+			if (step.cost() > costs.get(step.pos())) continue;
+			Junction junction = this.getJunction(step.pos());
+			if (junction == null) continue;
+			if (targetInside || junction.exit() != null) {
+				double dist = BlockPos.of(step.pos()).distSqr(target);
+				if (dist < bestDist) {
+					best = step.pos();
+					bestDist = dist;
+				}
+			}
+			for (Run run : junction.runs()) {
+				int cost = step.cost() + run.length();
+				if (cost < costs.get(run.to())) {
+					costs.put(run.to(), cost);
+					previous.put(run.to(), step.pos());
+					open.add(new Step(run.to(), cost));
+				}
+			}
+		}
+		if (best == startKey) return null;
+
+		List<Long> junctionsOnRoute = new ArrayList<>();
+		for (long pos = best; pos != startKey; pos = previous.get(pos)) {
+			junctionsOnRoute.add(pos);
+		}
+		junctionsOnRoute.add(startKey);
+		Collections.reverse(junctionsOnRoute);
+
+		List<Node> nodes = new ArrayList<>();
+		BlockPos from = start;
+		addNode(nodes, from);
+		for (int i = 1; i < junctionsOnRoute.size(); i++) {
+			BlockPos to = BlockPos.of(junctionsOnRoute.get(i));
+			//runs are straight, so every block between two junctions lies along a single axis
+			Direction direction = Direction.getNearest(to.getX() - from.getX(), to.getY() - from.getY(), to.getZ() - from.getZ());
+			BlockPos.MutableBlockPos cursor = from.mutable();
+			while (!cursor.equals(to)) {
+				addNode(nodes, cursor.move(direction));
+			}
+			from = to;
+		}
+		Junction last = this.getJunction(best);
+		if (!targetInside && last != null && last.exit() != null) {
+			addNode(nodes, from.relative(last.exit()));
+		}
+		return new Path(nodes, target, nodes.get(nodes.size() - 1).asBlockPos().equals(target));
+	}
+
+	private static void addNode(List<Node> nodes, BlockPos pos) {
+		Node node = new Node(pos.getX(), pos.getY(), pos.getZ());
+		node.type = BlockPathTypes.WALKABLE;
+		nodes.add(node);
+	}
+
+	private void invalidate(long pos) {
+		this.forget(pos, true);
+		long[] ends = this.runs.remove(pos);
+		if (ends != null) {
+			for (long end : ends) {
+				this.forget(end, true);
+			}
+		}
+	}
+
+	private void forget(long pos, boolean cascade) {
+		Junction junction = this.junctions.remove(pos);
+		if (junction != null && cascade) {
+			//the junctions at the other end of each run now point at something that may no longer be a junction
+			for (Run run : junction.runs()) {
+				this.forget(run.to(), false);
+			}
+		}
+	}
+
+	/**
+	 * Gets the junction at the given position. Tubes in the middle of a run are treated as junctions too, but aren't cached.
+	 */
+	@Nullable
+	private Junction getJunction(long key) {
+		Junction cached = this.junctions.get(key);
+		if (cached != null) return cached;
+		BlockPos pos = BlockPos.of(key);
+		BlockState state = this.level.getBlockState(pos);
+		if (!(state.getBlock() instanceof RatTubeBlock)) return null;
+
+		List<Run> runs = new ArrayList<>();
+		Long2ObjectMap<long[]> walked = new Long2ObjectOpenHashMap<>();
+		boolean complete = true;
+		for (Direction direction : Direction.values()) {
+			if (!state.getValue(RatTubeBlock.getConnectProperty(direction))) continue;
+			BlockPos.MutableBlockPos cursor = pos.mutable().move(direction);
+			LongArrayList run = new LongArrayList();
+			long[] ends = new long[]{key};
+			int length = 1;
+			while (true) {
+				if (!this.level.isLoaded(cursor) || length > MAX_RUN_LENGTH) {
+					complete = false;
+					break;
+				}
+				BlockState next = this.level.getBlockState(cursor);
+				if (!(next.getBlock() instanceof RatTubeBlock)) break;
+				if (this.isJunction(cursor, next)) {
+					runs.add(new Run(cursor.asLong(), length));
+					ends = new long[]{key, cursor.asLong()};
+					break;
+				}
+				if (!next.getValue(RatTubeBlock.getConnectProperty(direction))) break;
+				run.add(cursor.asLong());
+				cursor.move(direction);
+				length++;
+			}
+			for (long tube : run) {
+				walked.put(tube, ends);
+			}
+		}
+		Junction junction = new Junction(runs, this.getExit(pos, state));
+		if (complete && this.isJunction(pos, state)) {
+			this.junctions.put(key, junction);
+			this.runs.putAll(walked);
+		}
+		return junction;
+	}
+
+	private boolean isJunction(BlockPos pos, BlockState state) {
+		if (this.getExit(pos, state) != null) return true;
+		Direction first = null;
+		int connections = 0;
+		for (Direction direction : Direction.values()) {
+			if (state.getValue(RatTubeBlock.getConnectProperty(direction))) {
+				if (connections == 0) {
+					first = direction;
+				} else if (direction != first.getOpposite()) {
+					return true;
+				}
+				connections++;
+			}
+		}
+		return connections != 2;
+	}
+
+	@Nullable
+	private Direction getExit(BlockPos pos, BlockState state) {
+		for (Direction direction : Direction.values()) {
+			if (state.getValue(RatTubeBlock.getOpenProperty(direction))) {
+				return direction;
+			}
+			if (state.getValue(RatTubeBlock.getConnectProperty(direction)) && this.level.getBlockState(pos.relative(direction)).getBlock() instanceof RatCageBlock) {
+				return direction;
+			}
+		}
+		return null;
+	}
+
+	private record Junction(List<Run> runs, @Nullable Direction exit) {
+	}
+
+	private record Run(long to, int length) {
+	}
+
+	private record Step(long pos, int cost) implements Comparable<Step> {
+		@Override
+		public int compareTo(Step other) {
+			return Integer.compare(this.cost, other.cost);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.github.alexthe666.rats.server.world;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of the loaded summoners in a level (the Black Death, Pied Pipers and Rat Kings) along with every loaded minion
+ * claiming to belong to one, so the two can find each other without searching the area around them.
+ * Minions update their own entry whenever their owner changes and when they're added to or removed from the level.
+ */
+public class SummonerRegistry {
+
+	private static final Map<Level, SummonerRegistry> REGISTRIES = new WeakHashMap<>();
+
+	private final Map<UUID, Entity> summoners = new HashMap<>();
+	private final Map<UUID, Set<Entity>> minionsByOwner = new HashMap<>();
+	private final Map<Entity, UUID> owners = new HashMap<>();
+
+	public static SummonerRegistry get(Level level) {
+		return REGISTRIES.computeIfAbsent(level, level1 -> new SummonerRegistry());
+	}
+
+	public static void onLevelUnloaded(LevelAccessor level) {
+		if (level instanceof Level real) {
+			REGISTRIES.remove(real);
+		}
+	}
+
+	public void addSummoner(Entity summoner) {
+		this.summoners.put(summoner.getUUID(), summoner);
+	}
+
+	public void removeSummoner(Entity summoner) {
+		this.summoners.remove(summoner.getUUID(), summoner);
+	}
+
+	@Nullable
+	public Entity getSummoner(UUID uuid) {
+		return this.summoners.get(uuid);
+	}
+
+	public void updateMinion(Entity minion, @Nullable UUID owner) {
+		UUID previous = owner != null ? this.owners.put(minion, owner) : this.owners.remove(minion);
+		if (Objects.equals(previous, owner)) return;
+		if (previous != null) {
+			Set<Entity> minions = this.minionsByOwner.get(previous);
+			minions.remove(minion);
+			if (minions.isEmpty()) {
+				this.minionsByOwner.remove(previous);
+			}
+		}
+		if (owner != null) {
+			this.minionsByOwner.computeIfAbsent(owner, uuid -> new HashSet<>()).add(minion);
+		}
+	}
+
+	public void removeMinion(Entity minion) {
+		this.updateMinion(minion, null);
+	}
+
+	/**
+	 * @return a copy of the loaded minions of the given type belonging to the given summoner, safe to release while iterating
+	 */
+	public <T extends Entity> List<T> getMinions(UUID owner, Class<T> type) {
+		List<T> minions = new ArrayList<>();
+		for (Entity minion : this.minionsByOwner.getOrDefault(owner, Set.of())) {
+			if (type.isInstance(minion)) {
+				minions.add(type.cast(minion));
+			}
+		}
+		return minions;
+	}
+}
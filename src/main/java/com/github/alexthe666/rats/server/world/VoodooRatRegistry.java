@@ -0,0 +1,70 @@
+package com.github.alexthe666.rats.server.world;
+
+import com.github.alexthe666.rats.registry.RatsItemRegistry;
+import com.github.alexthe666.rats.server.entity.rat.TamedRat;
+import com.github.alexthe666.rats.server.misc.RatUpgradeUtils;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of every loaded rat with the voodoo upgrade in a level, grouped by owner, so player damage can be shared without searching for them.
+ * Rats update their own entry whenever their upgrades or owner change and when they're added to or removed from the level.
+ */
+public class VoodooRatRegistry {
+
+	private static final Map<Level, VoodooRatRegistry> REGISTRIES = new WeakHashMap<>();
+	private static final Set<TamedRat> NONE = Set.of();
+
+	private final Map<UUID, Set<TamedRat>> ratsByOwner = new HashMap<>();
+	private final Map<TamedRat, UUID> owners = new HashMap<>();
+
+	public static VoodooRatRegistry get(Level level) {
+		return REGISTRIES.computeIfAbsent(level, level1 -> new VoodooRatRegistry());
+	}
+
+	public static void onLevelUnloaded(LevelAccessor level) {
+		if (level instanceof Level real) {
+			REGISTRIES.remove(real);
+		}
+	}
+
+	public void update(TamedRat rat) {
+		boolean voodoo = rat.isAlive() && rat.isTame() && RatUpgradeUtils.hasUpgrade(rat, RatsItemRegistry.RAT_UPGRADE_VOODOO.get());
+		this.setOwner(rat, voodoo ? rat.getOwnerUUID() : null);
+	}
+
+	public void remove(TamedRat rat) {
+		this.setOwner(rat, null);
+	}
+
+	/**
+	 * @return the voodoo rats belonging to the given owner. Callers should copy this before hurting any of them, as dying rats remove themselves.
+	 */
+	public Set<TamedRat> getRats(UUID owner) {
+		return this.ratsByOwner.getOrDefault(owner, NONE);
+	}
+
+	private void setOwner(TamedRat rat, @Nullable UUID owner) {
+		UUID previous = owner != null ? this.owners.put(rat, owner) : this.owners.remove(rat);
+		if (Objects.equals(previous, owner)) return;
+		if (previous != null) {
+			Set<TamedRat> rats = this.ratsByOwner.get(previous);
+			rats.remove(rat);
+			if (rats.isEmpty()) {
+				this.ratsByOwner.remove(previous);
+			}
+		}
+		if (owner != null) {
+			this.ratsByOwner.computeIfAbsent(owner, uuid -> new HashSet<>()).add(rat);
+		}
+	}
+}